@@ -0,0 +1,69 @@
+package com.github.yohannesTz.jobhub.dto.response;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing the /jobs listing body, {@code ApiResponse<Page<JobResponse>>}, to JSON bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+    
+    @Param({"20", "100"})
+    private int pageSize;
+    
+    private JsonMapper jsonMapper;
+    private ApiResponse<Page<JobResponse>> response;
+    
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().findAndAddModules().build();
+        
+        UUID companyId = UUID.randomUUID();
+        List<JobResponse> jobs = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            jobs.add(JobResponse.builder()
+                    .id(UUID.randomUUID())
+                    .title("Backend Engineer " + i)
+                    .description("Build and operate the JobHub API. ".repeat(10))
+                    .requirements("Java, Spring Boot, PostgreSQL")
+                    .location("Remote")
+                    .salary(new BigDecimal("120000"))
+                    .companyId(companyId)
+                    .companyName("Benchmark Corp")
+                    .postedAt(LocalDateTime.now())
+                    .build());
+        }
+        response = ApiResponse.success(new PageImpl<>(jobs, PageRequest.of(0, pageSize), 10_000));
+    }
+    
+    @Benchmark
+    public byte[] serializeJobPage() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.yohannesTz.jobhub.security;
+
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One pass of a bearer-token request through the JWT filter, in both authentication modes.
+ * The user repository is an in-memory stand-in, so the database-backed mode measures the
+ * principal cache path rather than Postgres.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    
+    private static final String SECRET = "benchmark-secret-that-is-at-least-256-bits-long-for-hs256";
+    
+    @Param({"false", "true"})
+    private boolean stateless;
+    
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private final FilterChain chain = (request, response) -> { };
+    
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .name("Benchmark")
+                .email("benchmark@jobhub.test")
+                .password("$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchmar")
+                .role(UserRole.USER)
+                .build();
+        
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 900_000L, 0);
+        UserRepository userRepository = singleUserRepository(user);
+        PrincipalCache principalCache = new PrincipalCache(
+                userRepository, new SimpleMeterRegistry(), Duration.ofMinutes(1), 1_000);
+        filter = new JwtAuthenticationFilter(jwtUtil, new CustomUserDetailsService(principalCache, userRepository),
+                new StaticListableBeanFactory().getBeanProvider(TokenRevocationRegistry.class));
+        ReflectionTestUtils.setField(filter, "stateless", stateless);
+        
+        authorization = "Bearer " + jwtUtil.generateAccessToken(user);
+    }
+    
+    @Benchmark
+    public Authentication authenticate() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/applications/me");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+    
+    private static UserRepository singleUserRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[] {UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByEmail" -> user.getEmail().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "SingleUserRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.yohannesTz.jobhub.security;
+
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token issuing, and the per-request cost of verifying one: the original JwtUtil flow
+ * (key and parser rebuilt, token parsed three times) against the single parse, with and
+ * without the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+    
+    private static final String SECRET = "benchmark-secret-that-is-at-least-256-bits-long-for-hs256";
+    
+    private JwtUtil jwtUtil;
+    private JwtUtil cachingJwtUtil;
+    private User user;
+    private String token;
+    private String email;
+    
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 900_000L, 0);
+        cachingJwtUtil = new JwtUtil(SECRET, 900_000L, 10_000);
+        
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("benchmark@jobhub.test")
+                .role(UserRole.USER)
+                .build();
+        email = user.getEmail();
+        token = jwtUtil.generateAccessToken(user);
+    }
+    
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(user);
+    }
+    
+    @Benchmark
+    public boolean legacyPerRequest() {
+        // extractUsername in the filter, then validateToken's extractUsername and extractExpiration
+        String subject = legacyParse(token).getSubject();
+        return subject.equals(email)
+                && legacyParse(token).getSubject().equals(subject)
+                && !legacyParse(token).getExpiration().before(new Date());
+    }
+    
+    @Benchmark
+    public boolean parseOncePerRequest() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return jwtUtil.validateToken(claims, email);
+    }
+    
+    @Benchmark
+    public boolean cachedPerRequest() {
+        Claims claims = cachingJwtUtil.parseClaims(token);
+        return cachingJwtUtil.validateToken(claims, email);
+    }
+    
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
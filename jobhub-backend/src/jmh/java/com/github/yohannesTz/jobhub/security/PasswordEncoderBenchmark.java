@@ -0,0 +1,54 @@
+package com.github.yohannesTz.jobhub.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login verification cost per algorithm and cost setting, to choose
+ * {@code security.password.*} values; the startup calibration makes the same trade-off
+ * automatically when {@code security.password.target-verify-ms} is set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+    
+    private static final String PASSWORD = "password123";
+    
+    @Param({"bcrypt:10", "bcrypt:12", "pbkdf2:310000", "pbkdf2:600000"})
+    private String encoder;
+    
+    private PasswordEncoder passwordEncoder;
+    private String hash;
+    
+    @Setup
+    public void setUp() {
+        String[] parts = encoder.split(":");
+        int cost = Integer.parseInt(parts[1]);
+        passwordEncoder = parts[0].equals("bcrypt")
+                ? new BCryptPasswordEncoder(cost)
+                : PasswordHashCalibrator.pbkdf2(cost);
+        hash = passwordEncoder.encode(PASSWORD);
+    }
+    
+    @Benchmark
+    public boolean verify() {
+        return passwordEncoder.matches(PASSWORD, hash);
+    }
+}
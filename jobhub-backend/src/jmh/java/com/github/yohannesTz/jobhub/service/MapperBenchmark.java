@@ -0,0 +1,105 @@
+package com.github.yohannesTz.jobhub.service;
+
+import com.github.yohannesTz.jobhub.dto.response.JobApplicationResponse;
+import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import com.github.yohannesTz.jobhub.entity.Company;
+import com.github.yohannesTz.jobhub.entity.Job;
+import com.github.yohannesTz.jobhub.entity.JobApplication;
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping for one page of jobs and applications. The mappers touch no
+ * collaborators, so the services are built without any.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    
+    @Param({"20", "100"})
+    private int pageSize;
+    
+    private JobService jobService;
+    private JobApplicationService applicationService;
+    private List<Job> jobs;
+    private List<JobApplication> applications;
+    
+    @Setup
+    public void setUp() {
+        jobService = new JobService(null, null, null, null, null);
+        applicationService = new JobApplicationService(null, null, null, null);
+        
+        User owner = user("owner@jobhub.test", UserRole.COMPANY);
+        User applicant = user("applicant@jobhub.test", UserRole.USER);
+        Company company = Company.builder()
+                .id(UUID.randomUUID())
+                .name("Benchmark Corp")
+                .owner(owner)
+                .build();
+        
+        jobs = new ArrayList<>(pageSize);
+        applications = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Job job = Job.builder()
+                    .id(UUID.randomUUID())
+                    .title("Backend Engineer " + i)
+                    .description("Build and operate the JobHub API")
+                    .requirements("Java, Spring Boot, PostgreSQL")
+                    .location("Remote")
+                    .salary(new BigDecimal("120000"))
+                    .company(company)
+                    .postedAt(LocalDateTime.now())
+                    .build();
+            jobs.add(job);
+            applications.add(JobApplication.builder()
+                    .id(UUID.randomUUID())
+                    .job(job)
+                    .user(applicant)
+                    .message("I would like to apply")
+                    .resumeUrl("https://example.com/cv.pdf")
+                    .appliedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+    
+    @Benchmark
+    public List<JobResponse> mapJobs() {
+        return jobs.stream().map(jobService::mapToJobResponse).toList();
+    }
+    
+    @Benchmark
+    public List<JobApplicationResponse> mapApplications() {
+        return applications.stream().map(applicationService::mapToJobApplicationResponse).toList();
+    }
+    
+    private static User user(String email, UserRole role) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .name("Benchmark")
+                .email(email)
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.yohannesTz.jobhub.service;
+
+import com.github.yohannesTz.jobhub.dto.response.PresignedUrlResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Presigned upload URL generation. Signing is purely local, so the presigner points at an
+ * S3 Ninja style endpoint that is never contacted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class S3ServiceBenchmark {
+    
+    private static final String ENDPOINT = "http://localhost:9444";
+    
+    private S3Presigner presigner;
+    private S3Service s3Service;
+    
+    @Setup
+    public void setUp() {
+        presigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("benchmark", "benchmark")))
+                .endpointOverride(URI.create(ENDPOINT))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        
+        s3Service = new S3Service(presigner);
+        ReflectionTestUtils.setField(s3Service, "bucketName", "jobhub");
+        ReflectionTestUtils.setField(s3Service, "region", "us-east-1");
+        ReflectionTestUtils.setField(s3Service, "endpoint", ENDPOINT);
+        ReflectionTestUtils.setField(s3Service, "pathStyleEnabled", true);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        presigner.close();
+    }
+    
+    @Benchmark
+    public PresignedUrlResponse generatePresignedUrl() {
+        return s3Service.generatePresignedUrl("resume.pdf", "application/pdf", "resumes");
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load-test-only endpoint standing in for a request that spends its time blocked on I/O
+ * (a slow query, an S3 call). It tracks how many requests the server is executing at once,
+ * which is what the thread model limits. Only on the load test classpath.
+ */
+@RestController
+public class BlockingEndpoint {
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    
+    @GetMapping("/load-test/blocking")
+    public String block(@RequestParam(defaultValue = "200") long millis) throws InterruptedException {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(millis);
+            return Thread.currentThread().toString();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+    
+    int resetPeak() {
+        return peakInFlight.getAndSet(0);
+    }
+}
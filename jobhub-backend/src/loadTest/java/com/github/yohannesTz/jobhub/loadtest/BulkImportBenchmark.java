@@ -0,0 +1,156 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Times {@code POST /jobs/bulk} at 10k jobs per request for each JDBC batch size, with and
+ * without the Postgres driver rewriting batches into multi-row inserts, sending the jobs as
+ * a JSON array and as NDJSON. Each configuration boots the backend once against a fresh
+ * embedded Postgres database.
+ */
+public final class BulkImportBenchmark {
+    
+    private static final int JOBS = Integer.getInteger("load.bulk.jobs", 10_000);
+    private static final List<Integer> BATCH_SIZES = Arrays.stream(System.getProperty("load.bulk.batch-sizes", "1,50,500")
+            .split(",")).map(String::trim).map(Integer::valueOf).toList();
+    private static final int ROUNDS = Integer.getInteger("load.rounds", 3);
+    private static final Path REPORT_DIRECTORY = Path.of(System.getProperty("load.report-dir", "build/reports/load-test"));
+    
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    
+    public static void main(String[] args) throws Exception {
+        new BulkImportBenchmark().run();
+    }
+    
+    private void run() throws Exception {
+        List<String> rows = new ArrayList<>();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             InMemoryS3Server s3 = InMemoryS3Server.start()) {
+            int configuration = 0;
+            for (boolean rewrite : new boolean[] {false, true}) {
+                for (int batchSize : BATCH_SIZES) {
+                    String database = createDatabase(postgres, "bulk_bench_" + configuration);
+                    String url = postgres.getJdbcUrl("postgres", database) + (rewrite ? "&reWriteBatchedInserts=true" : "");
+                    try (ConfigurableApplicationContext app = LoadTestApplication.start(postgres, s3, LoadTestRunner.BUCKET,
+                            Map.of("jobs.bulk.batch-size", batchSize, "jobs.bulk.max-rows", JOBS,
+                                    "spring.datasource.url", url))) {
+                        String baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+                        String token = register(baseUrl, "bulk-bench-" + configuration++ + "@load.test");
+                        String companyId = createCompany(baseUrl, token);
+                        for (String format : List.of("json", "ndjson")) {
+                            rows.add(measure(baseUrl, token, companyId, format, batchSize, rewrite));
+                        }
+                    }
+                }
+            }
+        }
+        
+        String summary = String.format(Locale.ROOT, "%-7s %6s %8s %10s %10s%n",
+                "format", "batch", "rewrite", "best ms", "jobs/s") + String.join("", rows);
+        Files.createDirectories(REPORT_DIRECTORY);
+        Files.writeString(REPORT_DIRECTORY.resolve("bulk-import.txt"), summary);
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%d jobs per request, best of %d rounds%n", JOBS, ROUNDS);
+        System.out.print(summary);
+    }
+    
+    private String measure(String baseUrl, String token, String companyId, String format,
+                           int batchSize, boolean rewrite) throws Exception {
+        byte[] body = jobs(format);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/jobs/bulk?companyId=" + companyId))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", format.equals("json") ? "application/json" : "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        
+        // First import warms up the JIT and connection pool and is discarded
+        send(request);
+        
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            send(request);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return String.format(Locale.ROOT, "%-7s %6d %8s %10.1f %10.0f%n",
+                format, batchSize, rewrite ? "on" : "off", best / 1e6, JOBS * 1e9 / best);
+    }
+    
+    private void send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Bulk import failed: " + response.body());
+        }
+        int created = jsonMapper.readTree(response.body()).path("data").path("created").asInt();
+        if (created != JOBS) {
+            throw new IllegalStateException("Bulk import created " + created + " of " + JOBS + " jobs: " + response.body());
+        }
+    }
+    
+    private byte[] jobs(String format) {
+        List<String> jobs = new ArrayList<>(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            jobs.add("{\"title\":\"Bulk Engineer " + i + "\",\"description\":\"Imported by the bulk import benchmark\","
+                    + "\"requirements\":\"Java, SQL\",\"location\":\"Remote\",\"salary\":" + (60_000 + i % 100 * 1_000) + "}");
+        }
+        String body = format.equals("json") ? "[" + String.join(",", jobs) + "]" : String.join("\n", jobs) + "\n";
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    // A fresh database per configuration, so no run inserts into a table grown by the previous one
+    private static String createDatabase(EmbeddedPostgres postgres, String name) throws Exception {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE DATABASE " + name);
+        }
+        return name;
+    }
+    
+    private String register(String baseUrl, String email) throws Exception {
+        String body = "{\"name\":\"Bulk Import Benchmark\",\"email\":\"" + email + "\",\"password\":\""
+                + DataSeeder.PASSWORD + "\",\"role\":\"COMPANY\"}";
+        return post(baseUrl + "/auth/register", null, body).path("accessToken").asString();
+    }
+    
+    private String createCompany(String baseUrl, String token) throws Exception {
+        String body = "{\"name\":\"Bulk Import Benchmark Inc\",\"description\":\"Benchmark company\"}";
+        return post(baseUrl + "/companies", token, body).path("id").asString();
+    }
+    
+    private JsonNode post(String url, String token, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Request to " + url + " failed: " + response.body());
+        }
+        return jsonMapper.readTree(response.body()).path("data");
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import com.github.yohannesTz.jobhub.entity.UuidV7Generator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bulk version of seed-db.sh: JDBC batch inserts of users, company owners, companies, jobs
+ * and applications. Everything is deterministic by index so the load scenarios can work out
+ * emails and unused (user, job) pairs without asking the database.
+ */
+final class DataSeeder {
+    
+    static final String PASSWORD = "password123";
+    
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] TITLES = {
+            "Backend Engineer", "Frontend Developer", "Data Scientist", "DevOps Engineer",
+            "Product Manager", "QA Engineer", "Mobile Developer", "Site Reliability Engineer"
+    };
+    private static final String[] LOCATIONS = {
+            "Remote", "Addis Ababa", "Berlin", "London", "New York", "San Francisco", "Nairobi", "Toronto"
+    };
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+    private final String resumeUrl;
+    
+    DataSeeder(JdbcTemplate jdbcTemplate, LoadTestSettings settings, String resumeUrl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+        this.resumeUrl = resumeUrl;
+    }
+    
+    static String userEmail(int index) {
+        return "user" + index + "@load.test";
+    }
+    
+    /**
+     * The job the given user's n-th application goes to. Seeding uses n below
+     * applications-per-user, so the apply scenario starts from there.
+     */
+    static int jobIndexFor(int userIndex, int n, int jobCount) {
+        return (int) ((userIndex * 7L + n) % jobCount);
+    }
+    
+    /** Seeds every table and returns the job ids in index order. */
+    List<UUID> seed() {
+        // One hash for everybody; BCrypt cost would otherwise dominate seeding time. Prefixed
+        // like the app's own hashes so logins do not trigger a hash upgrade.
+        String passwordHash = "{bcrypt}" + new BCryptPasswordEncoder().encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        
+        List<UUID> userIds = ids(settings.users);
+        batch("INSERT INTO users (id, name, email, password, role, resume_url, token_version, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, 'USER', ?, 0, ?, ?)",
+                settings.users, i -> new Object[] {userIds.get(i), "Load User " + i, userEmail(i), passwordHash, resumeUrl, now, now});
+        
+        List<UUID> ownerIds = ids(settings.companies);
+        batch("INSERT INTO users (id, name, email, password, role, token_version, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, 'COMPANY', 0, ?, ?)",
+                settings.companies, i -> new Object[] {ownerIds.get(i), "Load Owner " + i, "owner" + i + "@load.test", passwordHash, now, now});
+        
+        List<UUID> companyIds = ids(settings.companies);
+        batch("INSERT INTO companies (id, name, description, website, owner_id, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                settings.companies, i -> new Object[] {companyIds.get(i), "Load Company " + i,
+                        "Company seeded for load testing", "https://company" + i + ".load.test", ownerIds.get(i), now});
+        
+        List<UUID> jobIds = ids(settings.jobs);
+        batch("INSERT INTO jobs (id, title, description, requirements, location, salary, company_id, posted_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                settings.jobs, i -> {
+                    String title = TITLES[i % TITLES.length] + " " + (i / TITLES.length);
+                    return new Object[] {jobIds.get(i), title,
+                            "We are hiring a " + title + " to build reliable, scalable software with Java and PostgreSQL.",
+                            "3+ years of experience", LOCATIONS[i % LOCATIONS.length],
+                            i % 5 == 0 ? null : BigDecimal.valueOf(40_000 + ThreadLocalRandom.current().nextInt(200_000)),
+                            companyIds.get(i % settings.companies),
+                            Timestamp.valueOf(now.toLocalDateTime().minusMinutes(i))};
+                });
+        
+        int applications = settings.users * settings.applicationsPerUser;
+        batch("INSERT INTO job_applications (id, job_id, user_id, message, resume_url, applied_at) VALUES (?, ?, ?, ?, ?, ?)",
+                applications, i -> {
+                    int user = i / settings.applicationsPerUser;
+                    int job = jobIndexFor(user, i % settings.applicationsPerUser, settings.jobs);
+                    return new Object[] {UuidV7Generator.generate(), jobIds.get(job), userIds.get(user),
+                            "Seeded application", resumeUrl, now};
+                });
+        
+        jdbcTemplate.execute("ANALYZE");
+        return jobIds;
+    }
+    
+    private void batch(String sql, int rows, RowValues values) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(values.forRow(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+    
+    private static List<UUID> ids(int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(UuidV7Generator.generate());
+        }
+        return ids;
+    }
+    
+    @FunctionalInterface
+    private interface RowValues {
+        Object[] forRow(int index);
+    }
+}
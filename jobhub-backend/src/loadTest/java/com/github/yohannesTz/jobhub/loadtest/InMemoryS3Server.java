@@ -0,0 +1,83 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Just enough of a path-style S3 endpoint for the load test: PUT stores an object, GET and
+ * HEAD return it. Signatures are not checked. Presigning itself never calls S3, so this only
+ * has to serve the resume objects that seeded users point at.
+ */
+final class InMemoryS3Server implements AutoCloseable {
+    
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    
+    private InMemoryS3Server(HttpServer server) {
+        this.server = server;
+    }
+    
+    static InMemoryS3Server start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        InMemoryS3Server s3 = new InMemoryS3Server(server);
+        server.createContext("/", s3::handle);
+        server.setExecutor(s3.executor);
+        server.start();
+        return s3;
+    }
+    
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+    
+    void putObject(String bucket, String key, byte[] content) {
+        objects.put("/" + bucket + "/" + key, content);
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        try {
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    try (InputStream body = exchange.getRequestBody()) {
+                        objects.put(path, body.readAllBytes());
+                    }
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "GET", "HEAD" -> {
+                    byte[] content = objects.get(path);
+                    if (content == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                    } else if (exchange.getRequestMethod().equals("HEAD")) {
+                        exchange.sendResponseHeaders(200, -1);
+                    } else {
+                        exchange.sendResponseHeaders(200, content.length);
+                        try (OutputStream out = exchange.getResponseBody()) {
+                            out.write(content);
+                        }
+                    }
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
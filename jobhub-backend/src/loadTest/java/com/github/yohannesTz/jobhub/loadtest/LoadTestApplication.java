@@ -0,0 +1,52 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import com.github.yohannesTz.jobhub.JobhubApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Boots the backend on a random port against the load test's embedded Postgres and S3
+ * stand-in. {@code load.app.<property>} system properties pass through to the application,
+ * e.g. {@code load.app.jwt.stateless=true}, and win over {@code overrides}.
+ */
+final class LoadTestApplication {
+    
+    private LoadTestApplication() {
+    }
+    
+    static ConfigurableApplicationContext start(EmbeddedPostgres postgres, InMemoryS3Server s3, String bucket,
+                                                Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", postgres.getJdbcUrl("postgres", "postgres"));
+        properties.put("spring.datasource.username", "postgres");
+        properties.put("spring.datasource.password", "postgres");
+        properties.put("spring.jpa.hibernate.ddl-auto", "update");
+        properties.put("spring.jpa.open-in-view", false);
+        properties.put("jwt.secret", "load-test-secret-key-that-is-long-enough-for-hmac-sha-256");
+        properties.put("jwt.access-token-expiration", 3_600_000);
+        properties.put("jwt.refresh-token-expiration", 86_400_000);
+        properties.put("aws.s3.bucket-name", bucket);
+        properties.put("aws.s3.region", "us-east-1");
+        properties.put("aws.s3.access-key", "load-test");
+        properties.put("aws.s3.secret-key", "load-test");
+        properties.put("aws.s3.endpoint", s3.endpoint());
+        properties.put("aws.s3.path-style-enabled", true);
+        properties.put("logging.level.com.github.yohannesTz.jobhub", "WARN");
+        properties.putAll(overrides);
+        
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("load.app."))
+                .forEach(name -> properties.put(name.substring("load.app.".length()), System.getProperty(name)));
+        
+        // Passed as command-line arguments so they beat a developer's local application.properties
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(JobhubApplication.class).run(args);
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import com.github.yohannesTz.jobhub.search.InMemoryJobSearchEngine;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongFunction;
+
+/**
+ * End-to-end load test: starts a throwaway Postgres and an in-memory S3 stand-in, boots the
+ * backend against them, seeds data at scale and drives each scenario with an open workload.
+ * Everything binds to loopback, so it runs on a single machine without network access.
+ * Percentile distributions are written to {@code load.report-dir} alongside a summary.
+ */
+public final class LoadTestRunner {
+    
+    static final String BUCKET = "jobhub-load";
+    private static final String[] SEARCH_KEYWORDS = {"engineer", "java", "remote", "developer", "data", "berlin"};
+    
+    private final LoadTestSettings settings;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private HttpClient client;
+    private String baseUrl;
+    private List<UUID> jobIds;
+    private final List<String> tokens = new ArrayList<>();
+    
+    private LoadTestRunner(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner(new LoadTestSettings()).run();
+    }
+    
+    private void run() throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(settings.clientThreads);
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             InMemoryS3Server s3 = InMemoryS3Server.start();
+             ConfigurableApplicationContext app = LoadTestApplication.start(postgres, s3, BUCKET, Map.of())) {
+            
+            String resumeKey = "resumes/load-test-resume.pdf";
+            s3.putObject(BUCKET, resumeKey, "%PDF-1.4 load test resume".getBytes(StandardCharsets.UTF_8));
+            
+            long seedStart = System.currentTimeMillis();
+            jobIds = new DataSeeder(app.getBean(JdbcTemplate.class), settings, s3.endpoint() + "/" + BUCKET + "/" + resumeKey)
+                    .seed();
+            log("Seeded %d users, %d companies, %d jobs and %d applications in %d ms",
+                    settings.users, settings.companies, settings.jobs, settings.users * settings.applicationsPerUser,
+                    System.currentTimeMillis() - seedStart);
+            
+            // The in-memory engine indexed an empty table at startup
+            app.getBeanProvider(InMemoryJobSearchEngine.class).ifAvailable(InMemoryJobSearchEngine::afterSingletonsInstantiated);
+            
+            baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            logInActiveUsers();
+            
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(client, settings.maxInFlight);
+            List<OpenModelLoadGenerator.Result> results = new ArrayList<>();
+            for (String scenario : settings.scenarios) {
+                int rate = settings.rate(scenario);
+                log("Running %s at %d req/s (%ds warm-up, %ds measured)", scenario, rate,
+                        settings.warmup.toSeconds(), settings.duration.toSeconds());
+                results.add(generator.run(scenario, requestsFor(scenario), rate, settings.warmup, settings.duration));
+            }
+            report(results);
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+    
+    private void logInActiveUsers() throws IOException, InterruptedException {
+        int count = Math.min(settings.activeUsers, settings.users);
+        for (int i = 0; i < count; i++) {
+            HttpResponse<String> response = client.send(loginRequest(i), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed for " + DataSeeder.userEmail(i) + ": " + response.body());
+            }
+            JsonNode body = jsonMapper.readTree(response.body());
+            tokens.add(body.path("data").path("accessToken").asString());
+        }
+        log("Logged in %d active users", count);
+    }
+    
+    private LongFunction<HttpRequest> requestsFor(String scenario) {
+        int activeUsers = tokens.size();
+        return switch (scenario) {
+            case "login" -> n -> loginRequest((int) (n % settings.users));
+            case "search" -> n -> HttpRequest.newBuilder(URI.create(baseUrl + "/jobs?keyword="
+                            + SEARCH_KEYWORDS[(int) (n % SEARCH_KEYWORDS.length)] + "&page=" + (n % 5) + "&size=20"))
+                    .GET()
+                    .build();
+            case "apply" -> n -> {
+                // Walk each active user through jobs they have not applied to yet
+                int user = (int) (n % activeUsers);
+                int job = DataSeeder.jobIndexFor(user, settings.applicationsPerUser + (int) (n / activeUsers), jobIds.size());
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/jobs/" + jobIds.get(job) + "/apply"))
+                        .header("Authorization", "Bearer " + tokens.get(user))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"Load test application\"}"))
+                        .build();
+            };
+            case "my-applications" -> n -> HttpRequest.newBuilder(URI.create(baseUrl + "/applications/me"))
+                    .header("Authorization", "Bearer " + tokens.get((int) (n % activeUsers)))
+                    .GET()
+                    .build();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+    }
+    
+    private HttpRequest loginRequest(int userIndex) {
+        String body = "{\"email\":\"" + DataSeeder.userEmail(userIndex) + "\",\"password\":\"" + DataSeeder.PASSWORD + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+    
+    private void report(List<OpenModelLoadGenerator.Result> results) throws IOException {
+        Files.createDirectories(settings.reportDirectory);
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT,
+                "%-16s %9s %9s %9s %9s %9s %9s %9s %9s %9s%n",
+                "scenario", "target/s", "actual/s", "errors", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        
+        for (OpenModelLoadGenerator.Result result : results) {
+            summary.append(String.format(Locale.ROOT, "%-16s %9d %9.1f %9d %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.scenario(), result.targetRate(), result.throughput(), result.errors(), result.dropped(),
+                    result.percentileMillis(50), result.percentileMillis(90), result.percentileMillis(99),
+                    result.percentileMillis(99.9), result.latency().getMaxValue() / 1e6));
+            
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(settings.reportDirectory.resolve(result.scenario() + ".hgrm")), true,
+                    StandardCharsets.UTF_8)) {
+                // Values are recorded in nanoseconds; the distribution is written in milliseconds
+                result.latency().outputPercentileDistribution(out, 1e6);
+            }
+        }
+        
+        Files.writeString(settings.reportDirectory.resolve("summary.txt"), summary);
+        System.out.println();
+        System.out.print(summary);
+        log("Reports written to %s", settings.reportDirectory.toAbsolutePath());
+    }
+    
+    private static void log(String format, Object... args) {
+        System.out.println("[load-test] " + String.format(Locale.ROOT, format, args));
+    }
+}
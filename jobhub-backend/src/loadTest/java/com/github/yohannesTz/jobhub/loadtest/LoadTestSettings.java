@@ -0,0 +1,43 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test knobs, read from {@code load.*} system properties. The Gradle task forwards
+ * {@code -Pload.*} project properties, e.g. {@code ./gradlew loadTest -Pload.jobs=50000}.
+ */
+final class LoadTestSettings {
+    
+    final int users = intProperty("load.users", 5_000);
+    final int companies = intProperty("load.companies", 200);
+    final int jobs = intProperty("load.jobs", 20_000);
+    final int applicationsPerUser = intProperty("load.applications-per-user", 5);
+    
+    // Users that log in up front and whose tokens drive the authenticated scenarios
+    final int activeUsers = intProperty("load.active-users", 500);
+    
+    final List<String> scenarios = Arrays.stream(System.getProperty("load.scenarios", "login,search,apply,my-applications")
+            .split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    final Duration warmup = Duration.ofSeconds(intProperty("load.warmup-seconds", 10));
+    final Duration duration = Duration.ofSeconds(intProperty("load.duration-seconds", 30));
+    final int maxInFlight = intProperty("load.max-in-flight", 2_000);
+    final int clientThreads = intProperty("load.client-threads", 16);
+    final Path reportDirectory = Path.of(System.getProperty("load.report-dir", "build/reports/load-test"));
+    
+    /**
+     * Arrival rate in requests per second; {@code load.rate.<scenario>} overrides {@code load.rate}.
+     * Login defaults lower because every request runs BCrypt.
+     */
+    int rate(String scenario) {
+        int fallback = intProperty("load.rate", 200);
+        return intProperty("load.rate." + scenario, scenario.equals("login") ? Math.min(fallback, 50) : fallback);
+    }
+    
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
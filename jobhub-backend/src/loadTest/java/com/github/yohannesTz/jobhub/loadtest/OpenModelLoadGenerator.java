@@ -0,0 +1,105 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Fires requests at a fixed arrival rate regardless of how fast responses come back (an
+ * open workload model). Latency is measured from each request's scheduled start, not its
+ * actual send time, so a stalled server shows up in the percentiles instead of silently
+ * lowering the offered load (coordinated omission).
+ */
+final class OpenModelLoadGenerator {
+    
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    
+    private final HttpClient client;
+    private final int maxInFlight;
+    
+    OpenModelLoadGenerator(HttpClient client, int maxInFlight) {
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+    }
+    
+    /**
+     * Runs {@code requests} at {@code rate} per second, first for the warm-up period (not
+     * recorded) and then for the measured duration.
+     */
+    Result run(String name, LongFunction<HttpRequest> requests, int rate, Duration warmup, Duration duration)
+            throws InterruptedException {
+        AtomicLong sequence = new AtomicLong();
+        drive(requests, sequence, rate, warmup, new Recorder(HIGHEST_TRACKABLE_NANOS, 3), new Counters());
+        
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        Counters counters = new Counters();
+        long start = System.nanoTime();
+        drive(requests, sequence, rate, duration, recorder, counters);
+        long elapsed = System.nanoTime() - start;
+        
+        return new Result(name, rate, recorder.getIntervalHistogram(), counters.completed.get(),
+                counters.errors.get(), counters.dropped.get(), elapsed);
+    }
+    
+    private void drive(LongFunction<HttpRequest> requests, AtomicLong sequence, int rate, Duration duration,
+                       Recorder recorder, Counters counters) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = duration.toSeconds() * rate;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+        
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * interval;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            
+            // Past the in-flight cap the client, not the server, would become the bottleneck
+            if (!inFlight.tryAcquire()) {
+                counters.dropped.incrementAndGet();
+                continue;
+            }
+            client.sendAsync(requests.apply(sequence.getAndIncrement()), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        recorder.recordValue(Math.min(System.nanoTime() - intendedStart, HIGHEST_TRACKABLE_NANOS));
+                        counters.completed.incrementAndGet();
+                        if (failure != null || response.statusCode() >= 400) {
+                            counters.errors.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+        
+        // Let the stragglers finish so they are recorded in this phase
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+    }
+    
+    private static final class Counters {
+        final AtomicLong completed = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong dropped = new AtomicLong();
+    }
+    
+    record Result(String scenario, int targetRate, Histogram latency, long completed, long errors, long dropped,
+                  long elapsedNanos) {
+        
+        double throughput() {
+            return completed * 1e9 / elapsedNanos;
+        }
+        
+        double percentileMillis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1e6;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import com.github.yohannesTz.jobhub.entity.UuidV7Generator;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Inserts the same number of rows into a table shaped like {@code job_applications} keyed by
+ * random v4 ids, by UUIDv7 ids, and by v4 ids followed by v7 ids (an existing table after the
+ * switch), then reports insert throughput and the size of the primary key index.
+ */
+public final class UuidKeyBenchmark {
+    
+    private static final int ROWS = Integer.getInteger("load.uuid.rows", 2_000_000);
+    private static final int BATCH_SIZE = Integer.getInteger("load.uuid.batch-size", 1_000);
+    private static final Path REPORT_DIRECTORY = Path.of(System.getProperty("load.report-dir", "build/reports/load-test"));
+    
+    public static void main(String[] args) throws Exception {
+        List<String> rows = new ArrayList<>();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             Connection connection = postgres.getPostgresDatabase().getConnection()) {
+            rows.add(measure(connection, "v4", i -> UUID.randomUUID()));
+            rows.add(measure(connection, "v7", i -> UuidV7Generator.generate()));
+            rows.add(measure(connection, "v4->v7", i -> i < ROWS / 2 ? UUID.randomUUID() : UuidV7Generator.generate()));
+        }
+        
+        String summary = String.format(Locale.ROOT, "%-7s %10s %10s %12s %12s %10s%n",
+                "keys", "total ms", "rows/s", "last 10% r/s", "pk index MB", "table MB") + String.join("", rows);
+        Files.createDirectories(REPORT_DIRECTORY);
+        Files.writeString(REPORT_DIRECTORY.resolve("uuid-keys.txt"), summary);
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%d rows in batches of %d%n", ROWS, BATCH_SIZE);
+        System.out.print(summary);
+    }
+    
+    private static String measure(Connection connection, String keys, IntFunction<UUID> ids) throws Exception {
+        String table = "uuid_bench_" + keys.replaceAll("\\W", "_");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, job_id uuid NOT NULL, "
+                    + "user_id uuid NOT NULL, message text, applied_at timestamp NOT NULL)");
+        }
+        
+        UUID jobId = UUID.randomUUID();
+        int tail = ROWS - ROWS / 10;
+        long start = System.nanoTime();
+        long tailStart = start;
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, job_id, user_id, message, applied_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (i == tail) {
+                    tailStart = System.nanoTime();
+                }
+                insert.setObject(1, ids.apply(i));
+                insert.setObject(2, jobId);
+                insert.setObject(3, UUID.randomUUID());
+                insert.setString(4, "Benchmark application");
+                insert.setTimestamp(5, new Timestamp(System.currentTimeMillis()));
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i == ROWS - 1) {
+                    insert.executeBatch();
+                }
+            }
+        }
+        long end = System.nanoTime();
+        
+        long indexBytes;
+        long tableBytes;
+        try (Statement statement = connection.createStatement();
+             ResultSet sizes = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey'), "
+                     + "pg_relation_size('" + table + "')")) {
+            sizes.next();
+            indexBytes = sizes.getLong(1);
+            tableBytes = sizes.getLong(2);
+        }
+        return String.format(Locale.ROOT, "%-7s %10.0f %10.0f %12.0f %12.1f %10.1f%n",
+                keys, (end - start) / 1e6, ROWS * 1e9 / (end - start), (ROWS - tail) * 1e9 / (end - tailStart),
+                indexBytes / 1048576.0, tableBytes / 1048576.0);
+    }
+}
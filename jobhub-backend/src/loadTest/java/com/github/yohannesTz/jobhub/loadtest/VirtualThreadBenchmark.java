@@ -0,0 +1,140 @@
+package com.github.yohannesTz.jobhub.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares how many requests the server keeps in flight at once with platform threads
+ * versus virtual threads. Each mode boots the backend, then fires a burst of concurrent
+ * requests at {@link BlockingEndpoint}, which sleeps like a request waiting on I/O. Platform
+ * mode tops out at the Tomcat worker count; virtual mode is limited only by connections.
+ * Needs a Java 21+ runtime, which the Gradle task provides.
+ */
+public final class VirtualThreadBenchmark {
+    
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 1_000);
+    private static final int BLOCK_MILLIS = Integer.getInteger("load.block-millis", 200);
+    private static final int ROUNDS = Integer.getInteger("load.rounds", 3);
+    private static final Path REPORT_DIRECTORY = Path.of(System.getProperty("load.report-dir", "build/reports/load-test"));
+    
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    
+    public static void main(String[] args) throws Exception {
+        new VirtualThreadBenchmark().run();
+    }
+    
+    private void run() throws Exception {
+        List<String> rows = new ArrayList<>();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             InMemoryS3Server s3 = InMemoryS3Server.start()) {
+            for (boolean virtual : new boolean[] {false, true}) {
+                try (ConfigurableApplicationContext app = LoadTestApplication.start(postgres, s3, LoadTestRunner.BUCKET,
+                        Map.of("spring.threads.virtual.enabled", virtual, "server.tomcat.max-connections", 10_000))) {
+                    rows.add(measure(virtual ? "virtual" : "platform", app));
+                }
+            }
+        }
+        
+        String summary = String.format(Locale.ROOT, "%-9s %12s %10s %10s %9s %9s %9s%n",
+                "threads", "peak flight", "wall ms", "req/s", "p50 ms", "p99 ms", "max ms") + String.join("", rows);
+        Files.createDirectories(REPORT_DIRECTORY);
+        Files.writeString(REPORT_DIRECTORY.resolve("virtual-threads.txt"), summary);
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%d concurrent requests blocking %d ms each, best of %d rounds%n",
+                CONCURRENCY, BLOCK_MILLIS, ROUNDS);
+        System.out.print(summary);
+    }
+    
+    private String measure(String mode, ConfigurableApplicationContext app) throws Exception {
+        String baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+        BlockingEndpoint endpoint = app.getBean(BlockingEndpoint.class);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        
+        String token = register(client, baseUrl, "vt-bench-" + mode + "@load.test");
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/load-test/blocking?millis=" + BLOCK_MILLIS))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        
+        // First round warms up connections and JIT and is discarded
+        burst(client, request);
+        endpoint.resetPeak();
+        
+        String best = null;
+        long bestWall = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            Histogram latency = new Histogram(TimeUnit.MINUTES.toNanos(1), 3);
+            long wall = burst(client, request, latency);
+            int peak = endpoint.resetPeak();
+            if (wall < bestWall) {
+                bestWall = wall;
+                best = String.format(Locale.ROOT, "%-9s %12d %10.1f %10.1f %9.2f %9.2f %9.2f%n",
+                        mode, peak, wall / 1e6, CONCURRENCY * 1e9 / wall,
+                        latency.getValueAtPercentile(50) / 1e6, latency.getValueAtPercentile(99) / 1e6,
+                        latency.getMaxValue() / 1e6);
+            }
+        }
+        return best;
+    }
+    
+    private long burst(HttpClient client, HttpRequest request) {
+        return burst(client, request, new Histogram(TimeUnit.MINUTES.toNanos(1), 3));
+    }
+    
+    // Sends every request at once and returns the wall time until the last one completes
+    private long burst(HttpClient client, HttpRequest request, Histogram latency) {
+        AtomicLong failures = new AtomicLong();
+        List<CompletableFuture<?>> responses = new ArrayList<>(CONCURRENCY);
+        long start = System.nanoTime();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        synchronized (latency) {
+                            latency.recordValue(Math.min(System.nanoTime() - start, latency.getHighestTrackableValue()));
+                        }
+                        if (failure != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).exceptionally(failure -> null).join();
+        long wall = System.nanoTime() - start;
+        if (failures.get() > 0) {
+            System.out.printf("[load-test] %d of %d requests failed%n", failures.get(), CONCURRENCY);
+        }
+        return wall;
+    }
+    
+    private String register(HttpClient client, String baseUrl, String email) throws Exception {
+        String body = "{\"name\":\"Virtual Thread Benchmark\",\"email\":\"" + email + "\",\"password\":\""
+                + DataSeeder.PASSWORD + "\",\"role\":\"USER\"}";
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/register"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Registration failed: " + response.body());
+        }
+        return jsonMapper.readTree(response.body()).path("data").path("accessToken").asString();
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.yohannesTz.jobhub.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Local caches for the anonymous, read-mostly job and company reads. Entries expire after
+ * {@code cache.public-reads.ttl} and are evicted on change by {@code PublicReadCacheEvictor};
+ * the job caches are bounded by the amount of job text they hold. Hit and miss counts are
+ * exported as {@code cache.gets}. The {@code @Cacheable} reads are {@code sync}: concurrent
+ * misses on a key wait for a single load, which {@link SingleFlightCaffeineCache} runs on the
+ * calling thread rather than inside Caffeine's per-key compute, so a query never holds the
+ * compute lock or pins a virtual thread.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    
+    public static final String JOBS = "jobs";
+    public static final String JOB_PAGES = "job-pages";
+    public static final String COMPANIES = "companies";
+    public static final String COMPANY_LIST = "company-list";
+    
+    // Only the first listing pages see enough traffic to be worth caching
+    public static final int CACHED_JOB_PAGES = 3;
+    
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.public-reads.ttl:5m}") Duration ttl,
+                                     @Value("${cache.public-reads.max-weight:10000000}") long maxWeight,
+                                     @Value("${cache.public-reads.max-companies:10000}") long maxCompanies) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new SingleFlightCaffeineCache(JOBS, Caffeine.newBuilder()
+                        .expireAfterWrite(ttl)
+                        .maximumWeight(maxWeight)
+                        .weigher((key, value) -> weigh(value))
+                        .recordStats()
+                        .buildAsync()),
+                new SingleFlightCaffeineCache(JOB_PAGES, Caffeine.newBuilder()
+                        .expireAfterWrite(ttl)
+                        .maximumWeight(maxWeight)
+                        .weigher((key, value) -> weigh(value))
+                        .recordStats()
+                        .buildAsync()),
+                new SingleFlightCaffeineCache(COMPANIES, Caffeine.newBuilder()
+                        .expireAfterWrite(ttl)
+                        .maximumSize(maxCompanies)
+                        .recordStats()
+                        .buildAsync()),
+                new SingleFlightCaffeineCache(COMPANY_LIST, Caffeine.newBuilder()
+                        .expireAfterWrite(ttl)
+                        .maximumSize(1)
+                        .recordStats()
+                        .buildAsync())));
+        return cacheManager;
+    }
+    
+    // Weight is the job text in characters, which dominates the size of a cached response
+    private static int weigh(Object value) {
+        if (value instanceof JobResponse job) {
+            return weigh(job);
+        }
+        if (value instanceof Page<?> page) {
+            int weight = 1;
+            for (Object item : page.getContent()) {
+                weight += item instanceof JobResponse job ? weigh(job) : 1;
+            }
+            return weight;
+        }
+        return 1;
+    }
+    
+    private static int weigh(JobResponse job) {
+        return 1 + length(job.getTitle()) + length(job.getDescription()) + length(job.getRequirements());
+    }
+    
+    private static int length(String text) {
+        return text != null ? text.length() : 0;
+    }
+}
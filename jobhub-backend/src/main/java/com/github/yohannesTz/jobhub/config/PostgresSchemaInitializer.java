@@ -0,0 +1,58 @@
+package com.github.yohannesTz.jobhub.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Applies the Postgres-specific schema objects that Hibernate's ddl-auto cannot express
+ * (generated columns, GIN indexes, extensions). Every statement is idempotent and runs
+ * once the entity tables have been created or updated.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresSchemaInitializer {
+    
+    private static final List<String> STATEMENTS = List.of(
+            // Full-text search: weighted document vector maintained by Postgres (title > location > description)
+            "ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('english', coalesce(title, '')), 'A') || " +
+                    "setweight(to_tsvector('english', coalesce(location, '')), 'B') || " +
+                    "setweight(to_tsvector('english', coalesce(description, '')), 'C')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_job_search_vector ON jobs USING GIN (search_vector)",
+            // Typo-tolerant search: trigram indexes serving the <% (word similarity) operator
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_job_title_trgm ON jobs USING GIN (title gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_job_location_trgm ON jobs USING GIN (location gin_trgm_ops)",
+            // Admin user search by email prefix (LIKE 'x%'), independent of the database collation
+            "CREATE INDEX IF NOT EXISTS idx_user_email_pattern ON users (email text_pattern_ops)",
+            // Refresh tokens are stored hashed; rows from the old plaintext scheme cannot be used and are dropped
+            "DELETE FROM refresh_tokens WHERE token_hash IS NULL",
+            "ALTER TABLE refresh_tokens DROP COLUMN IF EXISTS token",
+            "ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL",
+            // Tombstones of deleted users, which the stateless token revocation table reads until their tokens expire
+            "CREATE TABLE IF NOT EXISTS deleted_users (user_id uuid PRIMARY KEY, deleted_at timestamp NOT NULL)"
+    );
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PostConstruct
+    public void initialize() {
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.warn("Could not apply schema statement [{}]: {}", statement, e.getMostSpecificCause().getMessage());
+            }
+        }
+        log.info("Postgres schema extensions applied");
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.yohannesTz.jobhub.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Read-your-writes across instances: after a write commits, the primary's WAL position is
+ * handed to the client in a cookie that lives for {@code window}. Any instance receiving
+ * that cookie only sends the client's read-only transactions to replicas that have replayed
+ * at least that far, and the shared caches are bypassed for it. Registered as a listener
+ * on the transaction manager.
+ */
+@Slf4j
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+    
+    public static final String COOKIE = "jobhub-min-lsn";
+    
+    // A write in this request overrides the cookie the request came with
+    private static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".lsn";
+    
+    // Used when the position could not be read; no replica qualifies, so reads use the primary
+    private static final long PRIMARY_ONLY = Long.MAX_VALUE;
+    
+    @Getter
+    private final Duration window;
+    private final DataSource primary;
+    
+    public ReadYourWritesTracker(Duration window, DataSource primary) {
+        this.window = window;
+        this.primary = primary;
+    }
+    
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        long lsn = currentPrimaryLsn();
+        attributes.getRequest().setAttribute(REQUEST_ATTRIBUTE, lsn);
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null) {
+            Cookie cookie = new Cookie(COOKIE, formatLsn(lsn));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) window.toSeconds());
+            cookie.setAttribute("SameSite", "Lax");
+            response.addCookie(cookie);
+        }
+    }
+    
+    /**
+     * WAL position a replica must have replayed to serve the current request, or null when
+     * the request is not reading its own writes.
+     */
+    public Long requiredLsn() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(REQUEST_ATTRIBUTE) instanceof Long lsn) {
+            return lsn;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    return parseLsn(cookie.getValue());
+                }
+            }
+        }
+        return null;
+    }
+    
+    public boolean isReadingOwnWrites() {
+        return requiredLsn() != null;
+    }
+    
+    // Postgres prints an LSN as two 32-bit hex halves, e.g. 16/B374D848
+    static Long parseLsn(String value) {
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf('/');
+        try {
+            return separator < 0 ? null
+                    : Long.parseLong(value.substring(0, separator), 16) << 32
+                      | Long.parseLong(value.substring(separator + 1), 16);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    static String formatLsn(long lsn) {
+        return Long.toHexString(lsn >>> 32).toUpperCase() + "/" + Long.toHexString(lsn & 0xFFFFFFFFL).toUpperCase();
+    }
+    
+    // Read after the commit returned, so the position is at or past the commit record
+    private long currentPrimaryLsn() {
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet lsn = statement.executeQuery("SELECT pg_current_wal_lsn()::text")) {
+            lsn.next();
+            Long parsed = parseLsn(lsn.getString(1));
+            return parsed != null ? parsed : PRIMARY_ONLY;
+        } catch (SQLException e) {
+            log.warn("Could not read the primary WAL position, pinning reads to the primary: {}", e.getMessage());
+            return PRIMARY_ONLY;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.yohannesTz.jobhub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out read-only connections round-robin across the healthy replicas. A replica is
+ * taken out when it refuses connections or its replay lag exceeds {@code maxLag}, and put
+ * back by the next health check that finds it caught up. A request reading its own writes
+ * only goes to replicas whose replay position, as of their last health check, has reached
+ * the position the tracker requires. Reads fall back to the primary when no replica qualifies.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    
+    // Lag is zero when the replica has replayed everything it received, so an idle primary does not read as lag
+    private static final String LAG_SQL =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END, " +
+            "pg_last_wal_replay_lsn()::text";
+    
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<HikariDataSource> replicas,
+                                    ReadYourWritesTracker tracker,
+                                    Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.tracker = tracker;
+        this.maxLag = maxLag;
+        Gauge.builder("datasource.replicas.healthy", this, ReplicaRoutingDataSource::healthyCount)
+                .description("Read replicas currently receiving read-only transactions")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        Long requiredLsn = tracker.requiredLsn();
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy || (requiredLsn != null && replica.replayedLsn < requiredLsn)) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+    
+    // Replica pools only hold connections for the configured credentials
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+    
+    @Scheduled(initialDelay = 0, fixedDelayString = "${datasource.replicas.health-check-interval:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet lag = statement.executeQuery(LAG_SQL)) {
+                lag.next();
+                long lagMillis = lag.getLong(1);
+                Long replayedLsn = ReadYourWritesTracker.parseLsn(lag.getString(2));
+                replica.replayedLsn = replayedLsn != null ? replayedLsn : 0;
+                if (lagMillis > maxLag.toMillis()) {
+                    markDown(replica, "replay lag " + lagMillis + " ms");
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Replica {} is back in rotation", replica.dataSource.getPoolName());
+                }
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+    
+    private int healthyCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+    
+    private static void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} taken out of rotation: {}", replica.dataSource.getPoolName(), reason);
+        }
+    }
+    
+    private static final class Replica {
+        
+        private final HikariDataSource dataSource;
+        // Starts out of rotation until the first health check has seen it
+        private volatile boolean healthy;
+        private volatile long replayedLsn;
+        
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
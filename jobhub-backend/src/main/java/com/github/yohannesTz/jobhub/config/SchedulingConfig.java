@@ -0,0 +1,26 @@
+package com.github.yohannesTz.jobhub.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    
+    public static final String REFRESH_TOKEN_REAPER_SCHEDULER = "refreshTokenReaperScheduler";
+    
+    /**
+     * Own thread for the refresh token purge, which sleeps between batches and would otherwise
+     * hold up the revocation refresh and replica health checks on the shared scheduler. It is
+     * not a default candidate, so the auto-configured scheduler still runs every other task.
+     */
+    @Bean(name = REFRESH_TOKEN_REAPER_SCHEDULER, defaultCandidate = false)
+    public ThreadPoolTaskScheduler refreshTokenReaperScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("refresh-token-reaper-");
+        return scheduler;
+    }
+}
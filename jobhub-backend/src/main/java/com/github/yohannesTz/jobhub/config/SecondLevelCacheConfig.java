@@ -0,0 +1,59 @@
+package com.github.yohannesTz.jobhub.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.util.OptionalLong;
+import java.util.Properties;
+
+/**
+ * Hibernate second-level cache on Caffeine through JCache, limited to immutable data: the
+ * company ownership behind ownership checks. Entries are kept per instance with no
+ * cross-instance invalidation, so mutable rows such as companies and users are not cached
+ * here. Hit and miss counts are exported from Hibernate's statistics as
+ * {@code hibernate.second.level.cache.requests}.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    
+    public static final String COMPANY_OWNERSHIP_REGION = "entity.company-ownership";
+    
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${cache.second-level.company-ownership.max-size:10000}") long maxOwnerships) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                provider.getDefaultURI(), getClass().getClassLoader(), new Properties());
+        // Ownership never changes, so entries need no TTL
+        cacheManager.createCache(COMPANY_OWNERSHIP_REGION, region(maxOwnerships));
+        return cacheManager;
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            CacheManager hibernateCacheManager,
+            @Value("${cache.second-level.statistics:true}") boolean statistics) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, statistics);
+        };
+    }
+    
+    private static CaffeineConfiguration<Object, Object> region(long maxSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        return configuration;
+    }
+}
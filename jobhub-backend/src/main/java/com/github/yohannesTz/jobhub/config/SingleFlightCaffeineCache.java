@@ -0,0 +1,46 @@
+package com.github.yohannesTz.jobhub.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Caffeine cache for {@code @Cacheable(sync = true)} reads that loads each missing key once
+ * without running the loader inside Caffeine's per-key compute. The first caller installs a
+ * placeholder future and runs the loader on its own thread, keeping its transaction and
+ * request context; concurrent callers for the same key wait on that future.
+ */
+public class SingleFlightCaffeineCache extends CaffeineCache {
+    
+    public SingleFlightCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+        super(name, cache, false);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> entry = getAsyncCache().get(key, (k, executor) -> loading);
+        if (entry == loading) {
+            try {
+                loading.complete(toStoreValue(valueLoader.call()));
+            } catch (Exception e) {
+                // Failed futures are dropped by Caffeine, so the next caller loads again
+                ValueRetrievalException failure = new ValueRetrievalException(key, valueLoader, e);
+                loading.completeExceptionally(failure);
+                throw failure;
+            }
+        }
+        try {
+            return (T) fromStoreValue(entry.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.github.yohannesTz.jobhub.controller;
 
+import com.github.yohannesTz.jobhub.dto.request.UpdateUserRoleRequest;
+import com.github.yohannesTz.jobhub.dto.request.UserSearchFilter;
 import com.github.yohannesTz.jobhub.dto.response.ApiResponse;
 import com.github.yohannesTz.jobhub.dto.response.UserResponse;
-import com.github.yohannesTz.jobhub.entity.User;
-import com.github.yohannesTz.jobhub.repository.UserRepository;
+import com.github.yohannesTz.jobhub.entity.UserRole;
 import com.github.yohannesTz.jobhub.service.JobService;
 import com.github.yohannesTz.jobhub.service.UserService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/admin")
@@ -23,16 +30,45 @@ public class AdminController {
     
     private final UserService userService;
     private final JobService jobService;
-    private final UserRepository userRepository;
+    
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
     
     @GetMapping("/users")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
-        List<UserResponse> users = userRepository.findAll().stream()
-                .map(this::mapToUserResponse)
-                .collect(Collectors.toList());
+    public ResponseEntity<ApiResponse<Page<UserResponse>>> getUsers(
+            @RequestParam(required = false) UserRole role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String email,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        UserSearchFilter filter = UserSearchFilter.builder()
+                .role(role)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .emailPrefix(email)
+                .build();
+        Page<UserResponse> users = userService.searchUsers(filter, PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE)));
         return ResponseEntity.ok(ApiResponse.success(users));
     }
     
+    @GetMapping(value = "/users/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        StreamingResponseBody body = userService::exportUsers;
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"")
+                .body(body);
+    }
+    
+    @PutMapping("/users/{id}/role")
+    public ResponseEntity<ApiResponse<UserResponse>> updateUserRole(
+            @PathVariable UUID id,
+            @Valid @RequestBody UpdateUserRoleRequest request) {
+        UserResponse response = userService.updateUserRole(id, request.getRole());
+        return ResponseEntity.ok(ApiResponse.success("User role updated successfully", response));
+    }
+    
     @DeleteMapping("/users/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable UUID id) {
         userService.deleteUser(id);
@@ -44,18 +80,4 @@ public class AdminController {
         jobService.deleteJob(id);
         return ResponseEntity.ok(ApiResponse.success("Job deleted successfully", null));
     }
-    
-    private UserResponse mapToUserResponse(User user) {
-        return UserResponse.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .role(user.getRole())
-                .profilePictureUrl(user.getProfilePictureUrl())
-                .resumeUrl(user.getResumeUrl())
-                .createdAt(user.getCreatedAt())
-                .updatedAt(user.getUpdatedAt())
-                .build();
-    }
 }
-
@@ -7,11 +7,14 @@ import com.github.yohannesTz.jobhub.dto.response.CompanyResponse;
 import com.github.yohannesTz.jobhub.service.CompanyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +25,9 @@ public class CompanyController {
     
     private final CompanyService companyService;
     
+    @Value("${http.cache-control.company-max-age:300s}")
+    private Duration companyMaxAge;
+    
     @PostMapping
     @PreAuthorize("hasAnyRole('COMPANY', 'ADMIN')")
     public ResponseEntity<ApiResponse<CompanyResponse>> createCompany(@Valid @RequestBody CreateCompanyRequest request) {
@@ -33,13 +39,25 @@ public class CompanyController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<CompanyResponse>>> getAllCompanies() {
         List<CompanyResponse> response = companyService.getAllCompanies();
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return HttpCaching.ok(HttpCaching.etag(response), companyMaxAge)
+                .body(ApiResponse.success(response));
+    }
+    
+    @GetMapping("/me")
+    @PreAuthorize("hasAnyRole('COMPANY', 'ADMIN')")
+    public ResponseEntity<ApiResponse<List<CompanyResponse>>> getMyCompanies() {
+        return ResponseEntity.ok(ApiResponse.success(companyService.getMyCompanies()));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<CompanyResponse>> getCompanyById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<CompanyResponse>> getCompanyById(@PathVariable UUID id, WebRequest request) {
+        if (HttpCaching.notModified(request, () -> HttpCaching.companyEtag(id, companyService.getCompanyVersion(id)))) {
+            return null;
+        }
         CompanyResponse response = companyService.getCompanyById(id);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return HttpCaching.ok(HttpCaching.etag(response),
+                        HttpCaching.lastModified(response.getUpdatedAt(), response.getCreatedAt()), companyMaxAge)
+                .body(ApiResponse.success(response));
     }
     
     @PutMapping("/{id}")
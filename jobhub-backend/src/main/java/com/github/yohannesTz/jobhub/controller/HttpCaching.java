@@ -0,0 +1,113 @@
+package com.github.yohannesTz.jobhub.controller;
+
+import com.github.yohannesTz.jobhub.dto.response.CompanyResponse;
+import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import com.github.yohannesTz.jobhub.dto.response.SearchPage;
+import com.github.yohannesTz.jobhub.repository.JobVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Strong ETags derived from the entity version columns, plus Cache-Control. Single jobs and
+ * companies revalidate through {@link #notModified}, which reads only the version columns,
+ * so a matching If-None-Match is answered 304 without loading or mapping the entity.
+ * Listings hash the responses they contain, so they are built first and a match only
+ * saves serializing and sending the body.
+ */
+final class HttpCaching {
+    
+    private HttpCaching() {
+    }
+    
+    static ResponseEntity.BodyBuilder ok(String etag, Duration maxAge) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(maxAge).cachePublic());
+    }
+    
+    static ResponseEntity.BodyBuilder ok(String etag, LocalDateTime lastModified, Duration maxAge) {
+        ResponseEntity.BodyBuilder builder = ok(etag, maxAge);
+        if (lastModified != null) {
+            builder.lastModified(lastModified.atZone(ZoneId.systemDefault()));
+        }
+        return builder;
+    }
+    
+    /**
+     * True when the request carries an If-None-Match matching {@code etag}; the response is
+     * then already a 304 and the handler returns null. Without the header the ETag, and the
+     * query behind it, is skipped.
+     */
+    static boolean notModified(WebRequest request, Supplier<String> etag) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null && request.checkNotModified(etag.get());
+    }
+    
+    static String etag(JobResponse job) {
+        return jobEtag(job.getId(), job.getVersion(), job.getCompanyVersion());
+    }
+    
+    static String etag(JobVersion job) {
+        return jobEtag(job.getId(), job.getVersion(), job.getCompanyVersion());
+    }
+    
+    static String etag(CompanyResponse company) {
+        return companyEtag(company.getId(), company.getVersion());
+    }
+    
+    static String companyEtag(UUID id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+    
+    private static String jobEtag(UUID id, Long version, Long companyVersion) {
+        return "\"" + id + "-" + version + "-" + companyVersion + "\"";
+    }
+    
+    // Covers the page position, its total and every job on it
+    static String etag(Page<JobResponse> page) {
+        MessageDigest digest = sha256();
+        update(digest, page.getNumber() + ":" + page.getSize() + ":" + page.getTotalElements());
+        if (page instanceof SearchPage<?> searchPage) {
+            update(digest, String.valueOf(searchPage.getSuggestion()));
+        }
+        page.getContent().forEach(job -> update(digest, etag(job)));
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+    
+    static String etag(List<CompanyResponse> companies) {
+        MessageDigest digest = sha256();
+        companies.forEach(company -> update(digest, etag(company)));
+        return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+    
+    // Rows written before updated_at existed fall back to their creation time
+    static LocalDateTime lastModified(LocalDateTime updatedAt, LocalDateTime createdAt) {
+        return updatedAt != null ? updatedAt : createdAt;
+    }
+    
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+    
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
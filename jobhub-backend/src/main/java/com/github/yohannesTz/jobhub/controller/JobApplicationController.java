@@ -2,14 +2,24 @@ package com.github.yohannesTz.jobhub.controller;
 
 import com.github.yohannesTz.jobhub.dto.request.ApplyJobRequest;
 import com.github.yohannesTz.jobhub.dto.response.ApiResponse;
+import com.github.yohannesTz.jobhub.dto.response.CursorPage;
 import com.github.yohannesTz.jobhub.dto.response.JobApplicationResponse;
 import com.github.yohannesTz.jobhub.service.JobApplicationService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -17,8 +27,11 @@ import java.util.UUID;
 @RestController
 @RequestMapping
 @RequiredArgsConstructor
+@Validated
 public class JobApplicationController {
     
+    private static final Sort APPLICATION_ORDER = Sort.by("appliedAt", "id");
+    
     private final JobApplicationService applicationService;
     
     @PostMapping("/jobs/{jobId}/apply")
@@ -38,6 +51,38 @@ public class JobApplicationController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
+    @GetMapping(value = "/jobs/{jobId}/applications", params = "page")
+    @PreAuthorize("hasAnyRole('COMPANY', 'ADMIN')")
+    public ResponseEntity<ApiResponse<Page<JobApplicationResponse>>> getApplicationsForJobPage(
+            @PathVariable UUID jobId,
+            @RequestParam @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        Pageable pageable = PageRequest.of(page, size, APPLICATION_ORDER);
+        Page<JobApplicationResponse> response = applicationService.getApplicationsForJob(jobId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    @GetMapping(value = "/jobs/{jobId}/applications", params = "cursor")
+    @PreAuthorize("hasAnyRole('COMPANY', 'ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<JobApplicationResponse>>> getApplicationsForJobAfter(
+            @PathVariable UUID jobId,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        CursorPage<JobApplicationResponse> response = applicationService.getApplicationsForJob(jobId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    @GetMapping(value = "/jobs/{jobId}/applications/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('COMPANY', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportApplicationsForJob(@PathVariable UUID jobId) {
+        // Check access up front so failures still produce a normal error response
+        applicationService.verifyCanViewApplications(jobId);
+        StreamingResponseBody body = out -> applicationService.exportApplicationsForJob(jobId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+    
     @GetMapping("/applications/me")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<ApiResponse<List<JobApplicationResponse>>> getMyApplications() {
@@ -45,6 +90,25 @@ public class JobApplicationController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
+    @GetMapping(value = "/applications/me", params = "page")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ApiResponse<Page<JobApplicationResponse>>> getMyApplicationsPage(
+            @RequestParam @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        Pageable pageable = PageRequest.of(page, size, APPLICATION_ORDER);
+        Page<JobApplicationResponse> response = applicationService.getMyApplications(pageable);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    @GetMapping(value = "/applications/me", params = "cursor")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ApiResponse<CursorPage<JobApplicationResponse>>> getMyApplicationsAfter(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        CursorPage<JobApplicationResponse> response = applicationService.getMyApplications(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
     @GetMapping("/applications/{id}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ApiResponse<JobApplicationResponse>> getApplicationById(@PathVariable UUID id) {
@@ -1,28 +1,50 @@
 package com.github.yohannesTz.jobhub.controller;
 
 import com.github.yohannesTz.jobhub.dto.request.CreateJobRequest;
+import com.github.yohannesTz.jobhub.dto.request.JobFacetFilter;
 import com.github.yohannesTz.jobhub.dto.request.UpdateJobRequest;
 import com.github.yohannesTz.jobhub.dto.response.ApiResponse;
+import com.github.yohannesTz.jobhub.dto.response.BulkJobImportResponse;
+import com.github.yohannesTz.jobhub.dto.response.CursorPage;
+import com.github.yohannesTz.jobhub.dto.response.FacetedJobSearchResponse;
 import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import com.github.yohannesTz.jobhub.entity.SalaryBand;
+import com.github.yohannesTz.jobhub.service.JobImportService;
 import com.github.yohannesTz.jobhub.service.JobService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/jobs")
 @RequiredArgsConstructor
+@Validated
 public class JobController {
     
     private final JobService jobService;
+    private final JobImportService jobImportService;
+    
+    @Value("${http.cache-control.job-max-age:60s}")
+    private Duration jobMaxAge;
+    
+    @Value("${http.cache-control.job-list-max-age:30s}")
+    private Duration jobListMaxAge;
     
     @PostMapping
     @PreAuthorize("hasAnyRole('COMPANY', 'ADMIN')")
@@ -32,20 +54,65 @@ public class JobController {
                 .body(ApiResponse.success("Job created successfully", response));
     }
     
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasAnyRole('COMPANY', 'ADMIN')")
+    public ResponseEntity<ApiResponse<BulkJobImportResponse>> importJobs(
+            @RequestParam UUID companyId,
+            InputStream body) {
+        BulkJobImportResponse response = jobImportService.importJobs(companyId, body);
+        String message = "Imported " + response.getCreated() + " of " + response.getReceived() + " jobs";
+        return ResponseEntity.ok(ApiResponse.success(message, response));
+    }
+    
     @GetMapping
     public ResponseEntity<ApiResponse<Page<JobResponse>>> searchJobs(
             @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<JobResponse> response = jobService.searchJobs(keyword, pageable);
+        Page<JobResponse> response = fuzzy
+                ? jobService.fuzzySearchJobs(keyword, pageable)
+                : jobService.searchJobs(keyword, pageable);
+        return HttpCaching.ok(HttpCaching.etag(response), jobListMaxAge)
+                .body(ApiResponse.success(response));
+    }
+    
+    @GetMapping("/faceted")
+    public ResponseEntity<ApiResponse<FacetedJobSearchResponse>> searchJobsWithFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) UUID companyId,
+            @RequestParam(required = false) SalaryBand salaryBand,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        JobFacetFilter filter = JobFacetFilter.builder()
+                .keyword(keyword)
+                .location(location)
+                .companyId(companyId)
+                .salaryBand(salaryBand)
+                .build();
+        FacetedJobSearchResponse response = jobService.searchJobsWithFacets(filter, PageRequest.of(page, size));
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+    
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<JobResponse>>> getLatestJobs(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(CursorPage.MAX_SIZE) int size) {
+        CursorPage<JobResponse> response = jobService.getLatestJobs(cursor, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<JobResponse>> getJobById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<JobResponse>> getJobById(@PathVariable UUID id, WebRequest request) {
+        if (HttpCaching.notModified(request, () -> HttpCaching.etag(jobService.getJobVersion(id)))) {
+            return null;
+        }
         JobResponse response = jobService.getJobById(id);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return HttpCaching.ok(HttpCaching.etag(response),
+                        HttpCaching.lastModified(response.getUpdatedAt(), response.getPostedAt()), jobMaxAge)
+                .body(ApiResponse.success(response));
     }
     
     @PutMapping("/{id}")
@@ -0,0 +1,24 @@
+package com.github.yohannesTz.jobhub.dto.request;
+
+import com.github.yohannesTz.jobhub.entity.SalaryBand;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFacetFilter {
+    
+    private String keyword;
+    
+    private String location;
+    
+    private UUID companyId;
+    
+    private SalaryBand salaryBand;
+}
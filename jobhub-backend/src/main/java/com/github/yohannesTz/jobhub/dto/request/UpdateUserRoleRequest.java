@@ -0,0 +1,18 @@
+package com.github.yohannesTz.jobhub.dto.request;
+
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateUserRoleRequest {
+    
+    @NotNull(message = "Role is required")
+    private UserRole role;
+}
@@ -0,0 +1,24 @@
+package com.github.yohannesTz.jobhub.dto.request;
+
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchFilter {
+    
+    private UserRole role;
+    
+    private LocalDateTime createdFrom;
+    
+    private LocalDateTime createdTo;
+    
+    private String emailPrefix;
+}
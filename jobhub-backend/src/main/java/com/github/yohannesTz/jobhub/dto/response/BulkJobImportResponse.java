@@ -0,0 +1,21 @@
+package com.github.yohannesTz.jobhub.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobImportResponse {
+    
+    private int received;
+    
+    private int created;
+    
+    private List<BulkRowError> errors;
+}
@@ -0,0 +1,24 @@
+package com.github.yohannesTz.jobhub.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkRowError {
+    
+    // Zero-based position of the row in the request body
+    private int row;
+    
+    private String message;
+    
+    private Map<String, String> validationErrors;
+}
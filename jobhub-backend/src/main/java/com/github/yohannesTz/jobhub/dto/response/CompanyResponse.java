@@ -27,5 +27,9 @@ public class CompanyResponse {
     private String ownerName;
     
     private LocalDateTime createdAt;
+    
+    private LocalDateTime updatedAt;
+    
+    private Long version;
 }
 
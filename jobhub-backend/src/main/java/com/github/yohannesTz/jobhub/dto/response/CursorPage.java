@@ -0,0 +1,27 @@
+package com.github.yohannesTz.jobhub.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    
+    // Upper bound for the size parameter of the cursor endpoints
+    public static final int MAX_SIZE = 100;
+    
+    private List<T> content;
+    
+    private int size;
+    
+    private boolean hasNext;
+    
+    // Opaque cursor to pass back for the following page, null on the last page
+    private String nextCursor;
+}
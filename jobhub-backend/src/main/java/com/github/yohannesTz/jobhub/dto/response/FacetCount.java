@@ -0,0 +1,20 @@
+package com.github.yohannesTz.jobhub.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCount {
+    
+    // Value to pass back as a filter
+    private String value;
+    
+    private String label;
+    
+    private long count;
+}
@@ -0,0 +1,24 @@
+package com.github.yohannesTz.jobhub.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedJobSearchResponse {
+    
+    private Page<JobResponse> results;
+    
+    private List<FacetCount> locations;
+    
+    private List<FacetCount> companies;
+    
+    private List<FacetCount> salaryBands;
+}
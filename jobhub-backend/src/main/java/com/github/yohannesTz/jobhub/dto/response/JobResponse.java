@@ -1,5 +1,7 @@
 package com.github.yohannesTz.jobhub.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.yohannesTz.jobhub.entity.Job;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,7 +12,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobResponse {
@@ -32,5 +34,30 @@ public class JobResponse {
     private String companyName;
     
     private LocalDateTime postedAt;
-}
+    
+    private LocalDateTime updatedAt;
+    
+    private Long version;
+    
+    // Part of the ETag, since the response embeds the company name
+    @JsonIgnore
+    private Long companyVersion;
+    
+    // The one place a job is mapped, shared by the services and the in-memory search index
+    public static JobResponse from(Job job) {
+        return JobResponse.builder()
+                .id(job.getId())
+                .title(job.getTitle())
+                .description(job.getDescription())
+                .requirements(job.getRequirements())
+                .location(job.getLocation())
+                .salary(job.getSalary())
+                .companyId(job.getCompany().getId())
+                .companyName(job.getCompany().getName())
+                .postedAt(job.getPostedAt())
+                .updatedAt(job.getUpdatedAt())
+                .version(job.getVersion())
+                .companyVersion(job.getCompany().getVersion())
+                .build();
+    }
 
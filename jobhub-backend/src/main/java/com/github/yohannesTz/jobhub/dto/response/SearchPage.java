@@ -0,0 +1,23 @@
+package com.github.yohannesTz.jobhub.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * A {@link Page} of search results that can carry a "did you mean" suggestion for the keyword.
+ */
+public class SearchPage<T> extends PageImpl<T> {
+    
+    private final String suggestion;
+    
+    public SearchPage(Page<T> page, String suggestion) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.suggestion = suggestion;
+    }
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getSuggestion() {
+        return suggestion;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.yohannesTz.jobhub.entity;
+
+import com.github.yohannesTz.jobhub.config.SecondLevelCacheConfig;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+/**
+ * Read-only view of who owns a company, for ownership checks. A company's owner is set when
+ * it is created and never changes, so this can be cached on every instance without going
+ * stale, unlike the mutable company row.
+ */
+@Entity
+@Immutable
+@Table(name = "companies")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = SecondLevelCacheConfig.COMPANY_OWNERSHIP_REGION)
+public class CompanyOwnership {
+    
+    @Id
+    private UUID id;
+    
+    @Column(name = "owner_id", nullable = false)
+    private UUID ownerId;
+}
@@ -7,13 +7,16 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_job_posted_at_id", columnList = "posted_at DESC, id DESC")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,7 +24,7 @@ import java.util.UUID;
 public class Job {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
     
     @NotBlank(message = "Job title is required")
@@ -49,5 +52,14 @@ public class Job {
     @CreationTimestamp
     @Column(name = "posted_at", updatable = false)
     private LocalDateTime postedAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Optimistic lock, also the source of the ETag
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private Long version;
 }
 
@@ -13,6 +13,9 @@ import java.util.UUID;
 @Entity
 @Table(name = "job_applications", uniqueConstraints = {
     @UniqueConstraint(name = "uk_job_user_application", columnNames = {"job_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_application_job_applied_at", columnList = "job_id, applied_at, id"),
+    @Index(name = "idx_application_user_applied_at", columnList = "user_id, applied_at, id")
 })
 @Data
 @Builder
@@ -21,7 +24,7 @@ import java.util.UUID;
 public class JobApplication {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -9,8 +9,17 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * One row per signed-in device, whose id is the token family of that session. Only a
+ * SHA-256 hash of the opaque token is stored; each refresh rotates the hash in place,
+ * remembers the previous one and moves it to {@link RetiredRefreshToken} to detect reuse.
+ */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_token_previous_hash", columnList = "previous_token_hash"),
+    @Index(name = "idx_refresh_token_user", columnList = "user_id"),
+    @Index(name = "idx_refresh_token_expiry", columnList = "expiry_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -18,11 +27,15 @@ import java.util.UUID;
 public class RefreshToken {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
     
-    @Column(nullable = false, unique = true)
-    private String token;
+    // Legacy rows without a hash are removed by PostgresSchemaInitializer, which also makes this NOT NULL
+    @Column(name = "token_hash", unique = true, length = 64)
+    private String tokenHash;
+    
+    @Column(name = "previous_token_hash", length = 64)
+    private String previousTokenHash;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -34,8 +47,14 @@ public class RefreshToken {
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+    
+    // The raw token, only set on the instance returned when it is issued; never persisted
+    @Transient
+    private String token;
+    
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(this.expiryDate);
     }
 }
-
@@ -0,0 +1,40 @@
+package com.github.yohannesTz.jobhub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Hash of a refresh token that has been rotated away, kept until its session would expire.
+ * The family is the {@link RefreshToken} row (one device session) the token was issued to,
+ * so replaying any old token of a session can be traced back to it and revoke it.
+ */
+@Entity
+@Table(name = "refresh_token_history", indexes = {
+    @Index(name = "idx_refresh_token_history_family", columnList = "family_id"),
+    @Index(name = "idx_refresh_token_history_expiry", columnList = "expiry_date")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetiredRefreshToken {
+    
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+    
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+    
+    @Column(name = "rotated_at", nullable = false)
+    private LocalDateTime rotatedAt;
+    
+    @Column(name = "expiry_date", nullable = false)
+    private LocalDateTime expiryDate;
+}
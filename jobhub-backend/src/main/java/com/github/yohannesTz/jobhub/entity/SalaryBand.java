@@ -0,0 +1,25 @@
+package com.github.yohannesTz.jobhub.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@RequiredArgsConstructor
+public enum SalaryBand {
+    UNDER_50K("Under 50k", null, new BigDecimal("50000")),
+    FROM_50K_TO_100K("50k - 100k", new BigDecimal("50000"), new BigDecimal("100000")),
+    FROM_100K_TO_150K("100k - 150k", new BigDecimal("100000"), new BigDecimal("150000")),
+    FROM_150K_TO_200K("150k - 200k", new BigDecimal("150000"), new BigDecimal("200000")),
+    OVER_200K("200k+", new BigDecimal("200000"), null),
+    UNSPECIFIED("Not specified", null, null);
+    
+    private final String label;
+    
+    // Inclusive lower bound, null when unbounded
+    private final BigDecimal min;
+    
+    // Exclusive upper bound, null when unbounded
+    private final BigDecimal max;
+}
@@ -16,7 +16,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users", indexes = {
-    @Index(name = "idx_user_email", columnList = "email")
+    @Index(name = "idx_user_email", columnList = "email"),
+    @Index(name = "idx_user_created_at_id", columnList = "created_at DESC, id DESC")
 })
 @Data
 @Builder
@@ -25,7 +26,7 @@ import java.util.UUID;
 public class User {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7Id
     private UUID id;
     
     @NotBlank(message = "Name is required")
@@ -52,6 +53,11 @@ public class User {
     @Column(name = "resume_url")
     private String resumeUrl;
     
+    // Bumped to invalidate access tokens issued before a role, email or account change
+    @Builder.Default
+    @Column(name = "token_version", nullable = false, columnDefinition = "integer not null default 0")
+    private Integer tokenVersion = 0;
+    
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,59 @@
+package com.github.yohannesTz.jobhub.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * RFC 9562 UUIDv7: 48 bits of Unix milliseconds, then a 12-bit counter and 62 random bits.
+ * Ids from one instance are strictly increasing, so new rows land on the right-most index
+ * page; across instances they are ordered to the millisecond. They share the uuid column
+ * type with existing v4 ids, so both kinds coexist.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_MASK = 0xFFF;
+    
+    private static long lastMillis;
+    private static int counter;
+    
+    public static UUID generate() {
+        long millis;
+        int sequence;
+        synchronized (UuidV7Generator.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // Start low in the counter range so a busy millisecond rarely runs out
+                counter = RANDOM.nextInt(COUNTER_MASK + 1) >> 1;
+            } else if (++counter > COUNTER_MASK) {
+                // Counter exhausted (or the clock stepped back): borrow the next millisecond
+                lastMillis++;
+                counter = 0;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+        
+        long mostSignificant = (millis << 16) | 0x7000L | sequence;
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+    
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return generate();
+    }
+    
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
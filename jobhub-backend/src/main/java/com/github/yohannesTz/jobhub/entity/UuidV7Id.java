@@ -0,0 +1,19 @@
+package com.github.yohannesTz.jobhub.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns a time-ordered UUIDv7 from {@link UuidV7Generator} on insert. Used in place of
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)}, whose random v4 ids scatter
+ * inserts across the primary key index.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7Id {
+}
@@ -0,0 +1,10 @@
+package com.github.yohannesTz.jobhub.event;
+
+import com.github.yohannesTz.jobhub.dto.response.CompanyResponse;
+import lombok.Value;
+
+@Value
+public class CompanyChangedEvent {
+    
+    CompanyResponse company;
+}
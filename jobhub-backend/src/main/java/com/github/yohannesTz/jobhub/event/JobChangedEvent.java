@@ -0,0 +1,35 @@
+package com.github.yohannesTz.jobhub.event;
+
+import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import lombok.Value;
+
+import java.util.UUID;
+
+@Value
+public class JobChangedEvent {
+    
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+    
+    Type type;
+    
+    UUID jobId;
+    
+    // Snapshot of the job after the change, null for DELETED
+    JobResponse job;
+    
+    public static JobChangedEvent created(JobResponse job) {
+        return new JobChangedEvent(Type.CREATED, job.getId(), job);
+    }
+    
+    public static JobChangedEvent updated(JobResponse job) {
+        return new JobChangedEvent(Type.UPDATED, job.getId(), job);
+    }
+    
+    public static JobChangedEvent deleted(UUID jobId) {
+        return new JobChangedEvent(Type.DELETED, jobId, null);
+    }
+}
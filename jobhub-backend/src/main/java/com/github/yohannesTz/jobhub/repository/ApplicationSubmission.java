@@ -0,0 +1,46 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outcome of {@link JobApplicationSubmissionRepository#submitApplication}: the applicant and job
+ * as the statement saw them, plus the new application's id when a row was inserted.
+ */
+@Value
+@Builder
+public class ApplicationSubmission {
+    
+    UUID userId;
+    
+    String userName;
+    
+    String userEmail;
+    
+    UserRole role;
+    
+    // The resume that was (or would have been) attached, null when none is available
+    String resumeUrl;
+    
+    // Null when the job does not exist
+    UUID jobId;
+    
+    String jobTitle;
+    
+    UUID ownerId;
+    
+    boolean alreadyApplied;
+    
+    // Null when nothing was inserted
+    UUID applicationId;
+    
+    LocalDateTime appliedAt;
+    
+    public boolean isInserted() {
+        return applicationId != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import com.github.yohannesTz.jobhub.entity.CompanyOwnership;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface CompanyOwnershipRepository extends JpaRepository<CompanyOwnership, UUID> {
+}
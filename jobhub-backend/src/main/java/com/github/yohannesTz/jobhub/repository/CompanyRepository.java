@@ -2,14 +2,28 @@ package com.github.yohannesTz.jobhub.repository;
 
 import com.github.yohannesTz.jobhub.entity.Company;
 import com.github.yohannesTz.jobhub.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, UUID> {
+    @EntityGraph(attributePaths = "owner")
     List<Company> findByOwner(User owner);
+    
+    @Override
+    @EntityGraph(attributePaths = "owner")
+    List<Company> findAll();
+    
+    @EntityGraph(attributePaths = "owner")
+    Optional<Company> findDetailedById(UUID id);
+    
+    @Query("SELECT c.version FROM Company c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
 }
-
@@ -1,20 +1,77 @@
 package com.github.yohannesTz.jobhub.repository;
 
+import com.github.yohannesTz.jobhub.dto.response.JobApplicationResponse;
 import com.github.yohannesTz.jobhub.entity.Job;
 import com.github.yohannesTz.jobhub.entity.JobApplication;
 import com.github.yohannesTz.jobhub.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface JobApplicationRepository extends JpaRepository<JobApplication, UUID> {
+public interface JobApplicationRepository extends JpaRepository<JobApplication, UUID>, JobApplicationSubmissionRepository {
+    @EntityGraph(attributePaths = {"job", "user"})
     List<JobApplication> findByJob(Job job);
+    
+    @EntityGraph(attributePaths = {"job", "user"})
     List<JobApplication> findByUser(User user);
+    
+    @EntityGraph(attributePaths = {"job", "user"})
+    Page<JobApplication> findByJob(Job job, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"job", "user"})
+    Page<JobApplication> findByUser(User user, Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"job", "user"})
+    List<JobApplication> findByJobOrderByAppliedAtAscIdAsc(Job job, Limit limit);
+    
+    @EntityGraph(attributePaths = {"job", "user"})
+    List<JobApplication> findByUserOrderByAppliedAtAscIdAsc(User user, Limit limit);
+    
+    @EntityGraph(attributePaths = {"job", "user"})
+    @Query("SELECT a FROM JobApplication a WHERE a.job = :job " +
+           "AND (a.appliedAt, a.id) > (:appliedAt, :id) ORDER BY a.appliedAt, a.id")
+    List<JobApplication> findByJobAfter(@Param("job") Job job,
+                                        @Param("appliedAt") LocalDateTime appliedAt,
+                                        @Param("id") UUID id,
+                                        Limit limit);
+    
+    @EntityGraph(attributePaths = {"job", "user"})
+    @Query("SELECT a FROM JobApplication a WHERE a.user = :user " +
+           "AND (a.appliedAt, a.id) > (:appliedAt, :id) ORDER BY a.appliedAt, a.id")
+    List<JobApplication> findByUserAfter(@Param("user") User user,
+                                         @Param("appliedAt") LocalDateTime appliedAt,
+                                         @Param("id") UUID id,
+                                         Limit limit);
+    
+    // DTO rows straight off a server-side cursor, nothing is kept in the persistence context
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.github.yohannesTz.jobhub.dto.response.JobApplicationResponse(" +
+           "a.id, j.id, j.title, u.id, u.name, u.email, a.message, a.resumeUrl, a.appliedAt) " +
+           "FROM JobApplication a JOIN a.job j JOIN a.user u " +
+           "WHERE j.id = :jobId ORDER BY a.appliedAt, a.id")
+    Stream<JobApplicationResponse> streamByJobId(@Param("jobId") UUID jobId);
+    
+    @EntityGraph(attributePaths = {"job", "job.company", "job.company.owner", "user"})
+    Optional<JobApplication> findDetailedById(UUID id);
+    
     Optional<JobApplication> findByJobAndUser(Job job, User user);
-    boolean existsByJobAndUser(Job job, User user);
 }
 
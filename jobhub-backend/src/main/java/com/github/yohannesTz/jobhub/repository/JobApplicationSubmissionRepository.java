@@ -0,0 +1,11 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JobApplicationSubmissionRepository {
+    Optional<ApplicationSubmission> submitApplication(UUID applicationId, UUID jobId, String applicantEmail,
+                                                      String message, boolean useStoredResume, String resumeUrl,
+                                                      LocalDateTime appliedAt);
+}
@@ -0,0 +1,77 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Applies to a job in one statement: the applicant and job are read, the eligibility rules
+ * are checked and the application is inserted with ON CONFLICT DO NOTHING, so a duplicate
+ * (even one racing this request) never raises a constraint violation. The returned row tells
+ * the caller which rule, if any, prevented the insert.
+ */
+@RequiredArgsConstructor
+public class JobApplicationSubmissionRepositoryImpl implements JobApplicationSubmissionRepository {
+    
+    private static final String SUBMIT_SQL =
+            "WITH applicant AS (" +
+            "  SELECT u.id, u.name, u.email, u.role, " +
+            "    CASE WHEN :useStoredResume THEN NULLIF(btrim(u.resume_url), '') ELSE :resumeUrl END AS resume_url " +
+            "  FROM users u WHERE u.email = :email" +
+            "), target AS (" +
+            "  SELECT j.id, j.title, c.owner_id FROM jobs j JOIN companies c ON c.id = j.company_id WHERE j.id = :jobId" +
+            "), inserted AS (" +
+            "  INSERT INTO job_applications (id, job_id, user_id, message, resume_url, applied_at) " +
+            "  SELECT :id, t.id, a.id, :message, a.resume_url, :appliedAt " +
+            "  FROM applicant a JOIN target t ON t.owner_id <> a.id " +
+            "  WHERE a.role = 'USER' AND a.resume_url IS NOT NULL " +
+            "  ON CONFLICT ON CONSTRAINT uk_job_user_application DO NOTHING " +
+            "  RETURNING id" +
+            ") " +
+            "SELECT a.id AS user_id, a.name AS user_name, a.email AS user_email, a.role, a.resume_url, " +
+            "  t.id AS job_id, t.title AS job_title, t.owner_id, " +
+            // Same snapshot as the insert, so this only sees applications that existed before it
+            "  EXISTS (SELECT 1 FROM job_applications x WHERE x.job_id = t.id AND x.user_id = a.id) AS already_applied, " +
+            "  (SELECT i.id FROM inserted i) AS application_id " +
+            "FROM applicant a LEFT JOIN target t ON true";
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    @Override
+    public Optional<ApplicationSubmission> submitApplication(UUID applicationId, UUID jobId, String applicantEmail,
+                                                             String message, boolean useStoredResume, String resumeUrl,
+                                                             LocalDateTime appliedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", applicationId)
+                .addValue("jobId", jobId)
+                .addValue("email", applicantEmail)
+                .addValue("message", message, Types.VARCHAR)
+                .addValue("useStoredResume", useStoredResume)
+                .addValue("resumeUrl", resumeUrl, Types.VARCHAR)
+                .addValue("appliedAt", Timestamp.valueOf(appliedAt));
+        
+        List<ApplicationSubmission> rows = jdbcTemplate.query(SUBMIT_SQL, params, (rs, rowNum) ->
+                ApplicationSubmission.builder()
+                        .userId(rs.getObject("user_id", UUID.class))
+                        .userName(rs.getString("user_name"))
+                        .userEmail(rs.getString("user_email"))
+                        .role(UserRole.valueOf(rs.getString("role")))
+                        .resumeUrl(rs.getString("resume_url"))
+                        .jobId(rs.getObject("job_id", UUID.class))
+                        .jobTitle(rs.getString("job_title"))
+                        .ownerId(rs.getObject("owner_id", UUID.class))
+                        .alreadyApplied(rs.getBoolean("already_applied"))
+                        .applicationId(rs.getObject("application_id", UUID.class))
+                        .appliedAt(appliedAt)
+                        .build());
+        return rows.stream().findFirst();
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import com.github.yohannesTz.jobhub.dto.request.JobFacetFilter;
+import com.github.yohannesTz.jobhub.dto.response.FacetedJobSearchResponse;
+import org.springframework.data.domain.Pageable;
+
+public interface JobFacetRepository {
+    FacetedJobSearchResponse searchWithFacets(JobFacetFilter filter, Pageable pageable, int maxFacetValues);
+}
@@ -0,0 +1,164 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import com.github.yohannesTz.jobhub.dto.request.JobFacetFilter;
+import com.github.yohannesTz.jobhub.dto.response.FacetCount;
+import com.github.yohannesTz.jobhub.dto.response.FacetedJobSearchResponse;
+import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import com.github.yohannesTz.jobhub.entity.SalaryBand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Faceted job search in two statements: one for the requested page and one
+ * GROUPING SETS aggregate that returns every facet's counts plus the total.
+ */
+@RequiredArgsConstructor
+public class JobFacetRepositoryImpl implements JobFacetRepository {
+    
+    private static final String SALARY_BAND_CASE = buildSalaryBandCase();
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    @Override
+    public FacetedJobSearchResponse searchWithFacets(JobFacetFilter filter, Pageable pageable, int maxFacetValues) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhereClause(filter, params);
+        boolean ranked = filter.getKeyword() != null && !filter.getKeyword().isBlank();
+        
+        params.addValue("limit", pageable.getPageSize());
+        params.addValue("offset", pageable.getOffset());
+        String pageSql = "SELECT j.id, j.title, j.description, j.requirements, j.location, j.salary, j.posted_at, " +
+                "j.updated_at, j.version, c.id AS company_id, c.name AS company_name, c.version AS company_version " +
+                "FROM jobs j JOIN companies c ON c.id = j.company_id " +
+                where +
+                (ranked
+                        ? " ORDER BY ts_rank(j.search_vector, websearch_to_tsquery('english', :keyword)) DESC, j.posted_at DESC, j.id DESC"
+                        : " ORDER BY j.posted_at DESC, j.id DESC") +
+                " LIMIT :limit OFFSET :offset";
+        
+        List<JobResponse> content = jdbcTemplate.query(pageSql, params, (rs, rowNum) -> {
+            Timestamp postedAt = rs.getTimestamp("posted_at");
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            return JobResponse.builder()
+                    .id(rs.getObject("id", UUID.class))
+                    .title(rs.getString("title"))
+                    .description(rs.getString("description"))
+                    .requirements(rs.getString("requirements"))
+                    .location(rs.getString("location"))
+                    .salary(rs.getBigDecimal("salary"))
+                    .companyId(rs.getObject("company_id", UUID.class))
+                    .companyName(rs.getString("company_name"))
+                    .postedAt(postedAt != null ? postedAt.toLocalDateTime() : null)
+                    .updatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
+                    .version(rs.getLong("version"))
+                    .companyVersion(rs.getLong("company_version"))
+                    .build();
+        });
+        
+        String facetSql = "SELECT f.location, f.company_id, c.name AS company_name, f.salary_band, " +
+                "GROUPING(f.location) AS g_location, GROUPING(f.company_id, c.name) AS g_company, " +
+                "GROUPING(f.salary_band) AS g_salary_band, COUNT(*) AS total " +
+                "FROM (SELECT j.location, j.company_id, " + SALARY_BAND_CASE + " AS salary_band " +
+                "FROM jobs j " + where + ") f " +
+                "JOIN companies c ON c.id = f.company_id " +
+                "GROUP BY GROUPING SETS ((f.location), (f.company_id, c.name), (f.salary_band), ())";
+        
+        List<FacetCount> locations = new ArrayList<>();
+        List<FacetCount> companies = new ArrayList<>();
+        List<FacetCount> salaryBands = new ArrayList<>();
+        long[] total = {0};
+        
+        jdbcTemplate.query(facetSql, params, rs -> {
+            long count = rs.getLong("total");
+            if (rs.getInt("g_location") == 0) {
+                String location = rs.getString("location");
+                locations.add(new FacetCount(location, location, count));
+            } else if (rs.getInt("g_company") == 0) {
+                companies.add(new FacetCount(rs.getString("company_id"), rs.getString("company_name"), count));
+            } else if (rs.getInt("g_salary_band") == 0) {
+                SalaryBand band = SalaryBand.valueOf(rs.getString("salary_band"));
+                salaryBands.add(new FacetCount(band.name(), band.getLabel(), count));
+            } else {
+                total[0] = count;
+            }
+        });
+        
+        // Salary bands keep their natural order; the open-ended facets are ranked by count
+        salaryBands.sort(Comparator.comparing(facet -> SalaryBand.valueOf(facet.getValue())));
+        
+        return FacetedJobSearchResponse.builder()
+                .results(new PageImpl<>(content, pageable, total[0]))
+                .locations(topByCount(locations, maxFacetValues))
+                .companies(topByCount(companies, maxFacetValues))
+                .salaryBands(salaryBands)
+                .build();
+    }
+    
+    private static String buildWhereClause(JobFacetFilter filter, MapSqlParameterSource params) {
+        List<String> predicates = new ArrayList<>();
+        
+        if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
+            predicates.add("j.search_vector @@ websearch_to_tsquery('english', :keyword)");
+            params.addValue("keyword", filter.getKeyword().trim());
+        }
+        if (filter.getLocation() != null && !filter.getLocation().isBlank()) {
+            predicates.add("j.location = :location");
+            params.addValue("location", filter.getLocation());
+        }
+        if (filter.getCompanyId() != null) {
+            predicates.add("j.company_id = :companyId");
+            params.addValue("companyId", filter.getCompanyId());
+        }
+        
+        SalaryBand band = filter.getSalaryBand();
+        if (band == SalaryBand.UNSPECIFIED) {
+            predicates.add("j.salary IS NULL");
+        } else if (band != null) {
+            predicates.add("j.salary IS NOT NULL");
+            if (band.getMin() != null) {
+                predicates.add("j.salary >= :minSalary");
+                params.addValue("minSalary", band.getMin());
+            }
+            if (band.getMax() != null) {
+                predicates.add("j.salary < :maxSalary");
+                params.addValue("maxSalary", band.getMax());
+            }
+        }
+        
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+    
+    private static String buildSalaryBandCase() {
+        StringBuilder sql = new StringBuilder("CASE WHEN j.salary IS NULL THEN '")
+                .append(SalaryBand.UNSPECIFIED.name()).append("'");
+        for (SalaryBand band : SalaryBand.values()) {
+            if (band == SalaryBand.UNSPECIFIED) {
+                continue;
+            }
+            if (band.getMax() != null) {
+                sql.append(" WHEN j.salary < ").append(band.getMax().toPlainString())
+                        .append(" THEN '").append(band.name()).append("'");
+            } else {
+                sql.append(" ELSE '").append(band.name()).append("'");
+            }
+        }
+        return sql.append(" END").toString();
+    }
+    
+    private static List<FacetCount> topByCount(List<FacetCount> facets, int limit) {
+        return facets.stream()
+                .sorted(Comparator.comparingLong(FacetCount::getCount).reversed()
+                        .thenComparing(FacetCount::getLabel, Comparator.nullsLast(Comparator.naturalOrder())))
+                .limit(limit)
+                .toList();
+    }
+}
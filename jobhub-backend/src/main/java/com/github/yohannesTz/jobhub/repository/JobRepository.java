@@ -2,26 +2,87 @@ package com.github.yohannesTz.jobhub.repository;
 
 import com.github.yohannesTz.jobhub.entity.Company;
 import com.github.yohannesTz.jobhub.entity.Job;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface JobRepository extends JpaRepository<Job, UUID> {
+public interface JobRepository extends JpaRepository<Job, UUID>, JobFacetRepository {
     List<Job> findByCompany(Company company);
     
-    @Query("SELECT j FROM Job j WHERE " +
-           "LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(j.location) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    @Query(value = "SELECT j.* FROM jobs j " +
+                   "WHERE j.search_vector @@ websearch_to_tsquery('english', :keyword) " +
+                   "ORDER BY ts_rank(j.search_vector, websearch_to_tsquery('english', :keyword)) DESC, j.posted_at DESC, j.id DESC",
+           countQuery = "SELECT COUNT(*) FROM jobs j " +
+                        "WHERE j.search_vector @@ websearch_to_tsquery('english', :keyword)",
+           nativeQuery = true)
     Page<Job> searchJobs(@Param("keyword") String keyword, Pageable pageable);
     
+    @Query(value = "SELECT j.* FROM jobs j " +
+                   "WHERE :keyword <% j.title OR :keyword <% j.location " +
+                   "ORDER BY GREATEST(word_similarity(:keyword, j.title), word_similarity(:keyword, j.location)) DESC, " +
+                   "j.posted_at DESC, j.id DESC",
+           countQuery = "SELECT COUNT(*) FROM jobs j " +
+                        "WHERE :keyword <% j.title OR :keyword <% j.location",
+           nativeQuery = true)
+    Page<Job> fuzzySearchJobs(@Param("keyword") String keyword, Pageable pageable);
+    
+    // Closest word in the best trigram match on title, used as a "did you mean" suggestion
+    @Query(value = "SELECT w.word FROM (" +
+                   "SELECT j.title FROM jobs j WHERE :keyword <% j.title " +
+                   "ORDER BY word_similarity(:keyword, j.title) DESC LIMIT 1) t " +
+                   "CROSS JOIN LATERAL regexp_split_to_table(lower(t.title), '\\W+') AS w(word) " +
+                   "WHERE w.word <> '' " +
+                   "ORDER BY similarity(w.word, lower(:keyword)) DESC LIMIT 1",
+           nativeQuery = true)
+    Optional<String> suggestKeyword(@Param("keyword") String keyword);
+    
+    // Scoped to the current transaction, so callers must be @Transactional
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)", nativeQuery = true)
+    String setWordSimilarityThreshold(@Param("threshold") String threshold);
+    
+    @EntityGraph(attributePaths = "company")
     Page<Job> findAllByOrderByPostedAtDesc(Pageable pageable);
+    
+    // Company and owner are needed both for the response and for ownership checks
+    @EntityGraph(attributePaths = {"company", "company.owner"})
+    Optional<Job> findDetailedById(UUID id);
+    
+    // Search index load in id order, seeking past the previous batch instead of skipping rows
+    @EntityGraph(attributePaths = "company")
+    List<Job> findAllByOrderByIdAsc(Limit limit);
+    
+    @EntityGraph(attributePaths = "company")
+    List<Job> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+    
+    // Jobs whose row or company was written after the given time, for search index reconciliation
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT j FROM Job j WHERE j.postedAt > :since OR j.updatedAt > :since OR j.company.updatedAt > :since")
+    List<Job> findChangedSince(@Param("since") LocalDateTime since);
+    
+    @Query("SELECT j.id FROM Job j")
+    List<UUID> findAllIds();
+    
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT j FROM Job j ORDER BY j.postedAt DESC, j.id DESC")
+    List<Job> findLatest(Limit limit);
+    
+    // Seeks past the cursor on idx_job_posted_at_id instead of skipping rows with OFFSET
+    @EntityGraph(attributePaths = "company")
+    @Query("SELECT j FROM Job j WHERE (j.postedAt, j.id) < (:postedAt, :id) ORDER BY j.postedAt DESC, j.id DESC")
+    List<Job> findLatestBefore(@Param("postedAt") LocalDateTime postedAt, @Param("id") UUID id, Limit limit);
+    
+    @Query("SELECT new com.github.yohannesTz.jobhub.repository.JobVersion(j.id, j.version, c.version) " +
+           "FROM Job j JOIN j.company c WHERE j.id = :id")
+    Optional<JobVersion> findVersionById(@Param("id") UUID id);
 }
-
@@ -0,0 +1,18 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * The version columns a job's ETag is derived from, read without loading the job.
+ */
+@Value
+public class JobVersion {
+    
+    UUID id;
+    
+    Long version;
+    
+    Long companyVersion;
+}
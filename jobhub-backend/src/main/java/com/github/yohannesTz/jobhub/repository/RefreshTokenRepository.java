@@ -2,15 +2,38 @@ package com.github.yohannesTz.jobhub.repository;
 
 import com.github.yohannesTz.jobhub.entity.RefreshToken;
 import com.github.yohannesTz.jobhub.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
-    Optional<RefreshToken> findByToken(String token);
-    void deleteByUser(User user);
+    
+    @EntityGraph(attributePaths = "user")
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+    
+    // Compare-and-set on the current hash, so of two concurrent refreshes only one succeeds
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.tokenHash = :newHash, t.previousTokenHash = :oldHash, " +
+           "t.expiryDate = :expiryDate, t.rotatedAt = :now " +
+           "WHERE t.tokenHash = :oldHash AND t.expiryDate > :now")
+    int rotate(@Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiryDate") LocalDateTime expiryDate,
+               @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.id = :familyId")
+    int deleteFamily(@Param("familyId") UUID familyId);
+    
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.user = :user")
+    int deleteAllByUser(@Param("user") User user);
 }
-
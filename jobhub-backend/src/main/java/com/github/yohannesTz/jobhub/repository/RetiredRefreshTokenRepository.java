@@ -0,0 +1,34 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import com.github.yohannesTz.jobhub.entity.RetiredRefreshToken;
+import com.github.yohannesTz.jobhub.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface RetiredRefreshTokenRepository extends JpaRepository<RetiredRefreshToken, String> {
+    
+    // Plain insert: the hash is assigned, so save() would select before inserting
+    @Modifying
+    @Query("INSERT INTO RetiredRefreshToken (tokenHash, familyId, rotatedAt, expiryDate) " +
+           "VALUES (:tokenHash, :familyId, :rotatedAt, :expiryDate)")
+    int insert(@Param("tokenHash") String tokenHash,
+               @Param("familyId") UUID familyId,
+               @Param("rotatedAt") LocalDateTime rotatedAt,
+               @Param("expiryDate") LocalDateTime expiryDate);
+    
+    @Modifying
+    @Query("DELETE FROM RetiredRefreshToken t WHERE t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") UUID familyId);
+    
+    @Modifying
+    @Query("DELETE FROM RetiredRefreshToken r WHERE r.familyId IN " +
+           "(SELECT t.id FROM RefreshToken t WHERE t.user = :user)")
+    int deleteAllByUser(@Param("user") User user);
+}
@@ -1,15 +1,37 @@
 package com.github.yohannesTz.jobhub.repository;
 
+import com.github.yohannesTz.jobhub.dto.response.UserResponse;
 import com.github.yohannesTz.jobhub.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserSearchRepository {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+    
+    // Response columns only, fetched in batches so the CSV export runs in constant memory
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.github.yohannesTz.jobhub.dto.response.UserResponse(" +
+           "u.id, u.name, u.email, u.role, u.profilePictureUrl, u.resumeUrl, u.createdAt, u.updatedAt) " +
+           "FROM User u ORDER BY u.createdAt, u.id")
+    Stream<UserResponse> streamAllForExport();
 }
 
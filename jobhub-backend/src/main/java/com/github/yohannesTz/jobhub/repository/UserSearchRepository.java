@@ -0,0 +1,10 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import com.github.yohannesTz.jobhub.dto.request.UserSearchFilter;
+import com.github.yohannesTz.jobhub.dto.response.UserResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface UserSearchRepository {
+    Page<UserResponse> searchUsers(UserSearchFilter filter, Pageable pageable);
+}
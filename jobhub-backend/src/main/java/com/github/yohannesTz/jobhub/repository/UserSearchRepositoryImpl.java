@@ -0,0 +1,93 @@
+package com.github.yohannesTz.jobhub.repository;
+
+import com.github.yohannesTz.jobhub.dto.request.UserSearchFilter;
+import com.github.yohannesTz.jobhub.dto.response.UserResponse;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Admin user listing that selects only the response columns, so password hashes are never
+ * read. Only the filters that are set end up in the WHERE clause, which keeps the email
+ * prefix and creation range on their indexes.
+ */
+@RequiredArgsConstructor
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    @Override
+    public Page<UserResponse> searchUsers(UserSearchFilter filter, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhereClause(filter, params);
+        
+        params.addValue("limit", pageable.getPageSize());
+        params.addValue("offset", pageable.getOffset());
+        String pageSql = "SELECT u.id, u.name, u.email, u.role, u.profile_picture_url, u.resume_url, " +
+                "u.created_at, u.updated_at FROM users u" + where +
+                " ORDER BY u.created_at DESC, u.id DESC LIMIT :limit OFFSET :offset";
+        
+        List<UserResponse> content = jdbcTemplate.query(pageSql, params, (rs, rowNum) -> UserResponse.builder()
+                .id(rs.getObject("id", UUID.class))
+                .name(rs.getString("name"))
+                .email(rs.getString("email"))
+                .role(UserRole.valueOf(rs.getString("role")))
+                .profilePictureUrl(rs.getString("profile_picture_url"))
+                .resumeUrl(rs.getString("resume_url"))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                .build());
+        
+        // A short first page already tells us the total
+        long total;
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            total = content.size();
+        } else {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users u" + where, params, Long.class);
+            total = count != null ? count : 0;
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+    
+    private static String buildWhereClause(UserSearchFilter filter, MapSqlParameterSource params) {
+        List<String> predicates = new ArrayList<>();
+        
+        if (filter.getRole() != null) {
+            predicates.add("u.role = :role");
+            params.addValue("role", filter.getRole().name());
+        }
+        if (filter.getCreatedFrom() != null) {
+            predicates.add("u.created_at >= :createdFrom");
+            params.addValue("createdFrom", Timestamp.valueOf(filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            predicates.add("u.created_at < :createdTo");
+            params.addValue("createdTo", Timestamp.valueOf(filter.getCreatedTo()));
+        }
+        if (filter.getEmailPrefix() != null && !filter.getEmailPrefix().isBlank()) {
+            // Served by the text_pattern_ops index; wildcards in the input are matched literally
+            predicates.add("u.email LIKE :emailPrefix ESCAPE '\\'");
+            params.addValue("emailPrefix", escapeLike(filter.getEmailPrefix().trim()) + "%");
+        }
+        
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+    
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+    
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
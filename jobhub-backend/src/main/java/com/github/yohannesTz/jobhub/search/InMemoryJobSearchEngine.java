@@ -0,0 +1,394 @@
+package com.github.yohannesTz.jobhub.search;
+
+import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import com.github.yohannesTz.jobhub.entity.Job;
+import com.github.yohannesTz.jobhub.event.CompanyChangedEvent;
+import com.github.yohannesTz.jobhub.event.JobChangedEvent;
+import com.github.yohannesTz.jobhub.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Inverted index over job title, location and description scored with BM25.
+ * Enabled with {@code jobs.search.engine=memory}; loaded from the database before the
+ * web server starts accepting requests and kept current from {@link JobChangedEvent}s.
+ * Those events only fire on the instance that made the change, so every
+ * {@code jobs.search.reconcile-interval} the index also re-reads jobs written since the
+ * last pass and drops jobs whose rows are gone, picking up other instances' changes.
+ */
+@Component
+@ConditionalOnProperty(name = "jobs.search.engine", havingValue = "memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryJobSearchEngine implements JobSearchEngine, SmartInitializingSingleton {
+    
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    
+    // Term frequency multipliers per field, a poor man's BM25F
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    // Re-read window before the previous pass, covering clock skew between instances and
+    // transactions that committed after their timestamp was taken
+    private static final Duration RECONCILE_OVERLAP = Duration.ofMinutes(1);
+    
+    private final JobRepository jobRepository;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // All state below is guarded by lock
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<UUID, Integer> docIdsByJobId = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private JobResponse[] documents = new JobResponse[INITIAL_CAPACITY];
+    private String[][] documentTerms = new String[INITIAL_CAPACITY][];
+    private int[] documentLengths = new int[INITIAL_CAPACITY];
+    private int nextDocId;
+    private int liveCount;
+    private int deadCount;
+    private long totalLength;
+    
+    private volatile LocalDateTime reconciledAt;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.currentTimeMillis();
+        reconciledAt = LocalDateTime.now();
+        List<JobResponse> jobs = new ArrayList<>();
+        Limit batch = Limit.of(LOAD_BATCH_SIZE);
+        List<Job> slice = jobRepository.findAllByOrderByIdAsc(batch);
+        while (!slice.isEmpty()) {
+            slice.forEach(job -> jobs.add(JobResponse.from(job)));
+            if (slice.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            slice = jobRepository.findByIdGreaterThanOrderByIdAsc(slice.get(slice.size() - 1).getId(), batch);
+        }
+        
+        rebuild(jobs);
+        log.info("Job search index built with {} jobs in {} ms", jobs.size(), System.currentTimeMillis() - start);
+    }
+    
+    @Scheduled(initialDelayString = "${jobs.search.reconcile-interval:60000}",
+               fixedDelayString = "${jobs.search.reconcile-interval:60000}")
+    public void reconcile() {
+        LocalDateTime start = LocalDateTime.now();
+        int updated = 0;
+        try {
+            for (Job job : jobRepository.findChangedSince(reconciledAt.minus(RECONCILE_OVERLAP))) {
+                if (indexIfNewer(JobResponse.from(job))) {
+                    updated++;
+                }
+            }
+            
+            // Snapshot before reading the ids, so a job indexed meanwhile is not taken as deleted
+            Set<UUID> gone;
+            lock.readLock().lock();
+            try {
+                gone = new HashSet<>(docIdsByJobId.keySet());
+            } finally {
+                lock.readLock().unlock();
+            }
+            jobRepository.findAllIds().forEach(gone::remove);
+            gone.forEach(this::remove);
+            
+            reconciledAt = start;
+            log.debug("Job search index reconciled: {} jobs updated, {} removed", updated, gone.size());
+        } catch (DataAccessException e) {
+            log.warn("Could not reconcile the job search index, retrying on the next pass: {}", e.getMessage());
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() == JobChangedEvent.Type.DELETED) {
+            remove(event.getJobId());
+        } else {
+            index(event.getJob());
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        UUID companyId = event.getCompany().getId();
+        String companyName = event.getCompany().getName();
+        Long companyVersion = event.getCompany().getVersion();
+        
+        lock.writeLock().lock();
+        try {
+            List<JobResponse> affected = new ArrayList<>();
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                JobResponse job = documents[doc];
+                if (companyId.equals(job.getCompanyId()) && !companyName.equals(job.getCompanyName())) {
+                    affected.add(job);
+                }
+            }
+            for (JobResponse job : affected) {
+                removeLocked(job.getId());
+                addLocked(job.toBuilder()
+                        .companyName(companyName)
+                        .companyVersion(companyVersion)
+                        .build());
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public Page<JobResponse> search(String keyword, Pageable pageable) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(JobTextAnalyzer.tokenize(keyword)));
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return Page.empty(pageable);
+            }
+            
+            float averageLength = (float) totalLength / liveCount;
+            float[] scores = new float[nextDocId];
+            int[] hits = new int[16];
+            int hitCount = 0;
+            
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null || list.liveDocs == 0) {
+                    continue;
+                }
+                
+                double idf = Math.log(1 + (liveCount - list.liveDocs + 0.5) / (list.liveDocs + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int doc = list.docs[i];
+                    if (!live.get(doc)) {
+                        continue;
+                    }
+                    
+                    int tf = list.freqs[i];
+                    float norm = K1 * (1 - B + B * documentLengths[doc] / averageLength);
+                    if (scores[doc] == 0) {
+                        if (hitCount == hits.length) {
+                            hits = Arrays.copyOf(hits, hitCount * 2);
+                        }
+                        hits[hitCount++] = doc;
+                    }
+                    scores[doc] += (float) (idf * tf * (K1 + 1) / (tf + norm));
+                }
+            }
+            
+            Comparator<Integer> byRelevance = Comparator.<Integer>comparingDouble(doc -> scores[doc]).reversed()
+                    .thenComparing(doc -> documents[doc].getPostedAt(),
+                            Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+            
+            List<JobResponse> content = IntStream.of(Arrays.copyOf(hits, hitCount))
+                    .boxed()
+                    .sorted(byRelevance)
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .map(doc -> documents[doc])
+                    .toList();
+            
+            return new PageImpl<>(content, pageable, hitCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public void index(JobResponse job) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.getId());
+            addLocked(job);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Skips rows the index already has at this version, e.g. ones indexed from a local event
+    private boolean indexIfNewer(JobResponse job) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docIdsByJobId.get(job.getId());
+            if (doc != null && !isNewer(job, documents[doc])) {
+                return false;
+            }
+            removeLocked(job.getId());
+            addLocked(job);
+            compactIfNeeded();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(UUID jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void rebuild(Collection<JobResponse> jobs) {
+        lock.writeLock().lock();
+        try {
+            resetLocked(jobs.size());
+            jobs.forEach(this::addLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void addLocked(JobResponse job) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        int length = addTerms(frequencies, job.getTitle(), TITLE_WEIGHT)
+                + addTerms(frequencies, job.getLocation(), LOCATION_WEIGHT)
+                + addTerms(frequencies, job.getDescription(), DESCRIPTION_WEIGHT);
+        
+        int doc = nextDocId++;
+        ensureCapacity(doc + 1);
+        
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, t -> new PostingList()).add(doc, frequency));
+        
+        documents[doc] = job;
+        documentTerms[doc] = frequencies.keySet().toArray(new String[0]);
+        documentLengths[doc] = length;
+        live.set(doc);
+        docIdsByJobId.put(job.getId(), doc);
+        liveCount++;
+        totalLength += length;
+    }
+    
+    private void removeLocked(UUID jobId) {
+        Integer doc = docIdsByJobId.remove(jobId);
+        if (doc == null) {
+            return;
+        }
+        
+        for (String term : documentTerms[doc]) {
+            postings.get(term).liveDocs--;
+        }
+        live.clear(doc);
+        liveCount--;
+        deadCount++;
+        totalLength -= documentLengths[doc];
+        documents[doc] = null;
+        documentTerms[doc] = null;
+    }
+    
+    private void compactIfNeeded() {
+        if (deadCount > INITIAL_CAPACITY && deadCount > liveCount) {
+            List<JobResponse> jobs = new ArrayList<>(liveCount);
+            for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+                jobs.add(documents[doc]);
+            }
+            resetLocked(jobs.size());
+            jobs.forEach(this::addLocked);
+        }
+    }
+    
+    private void resetLocked(int expectedSize) {
+        int capacity = Math.max(INITIAL_CAPACITY, expectedSize);
+        postings.clear();
+        docIdsByJobId.clear();
+        live.clear();
+        documents = new JobResponse[capacity];
+        documentTerms = new String[capacity][];
+        documentLengths = new int[capacity];
+        nextDocId = 0;
+        liveCount = 0;
+        deadCount = 0;
+        totalLength = 0;
+    }
+    
+    private void ensureCapacity(int capacity) {
+        if (capacity > documents.length) {
+            int newCapacity = Math.max(capacity, documents.length + (documents.length >> 1));
+            documents = Arrays.copyOf(documents, newCapacity);
+            documentTerms = Arrays.copyOf(documentTerms, newCapacity);
+            documentLengths = Arrays.copyOf(documentLengths, newCapacity);
+        }
+    }
+    
+    private static boolean isNewer(JobResponse job, JobResponse indexed) {
+        return version(job.getVersion()) > version(indexed.getVersion())
+                || version(job.getCompanyVersion()) > version(indexed.getCompanyVersion());
+    }
+    
+    private static long version(Long version) {
+        return version != null ? version : -1;
+    }
+    
+    private static int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> tokens = JobTextAnalyzer.tokenize(text);
+        tokens.forEach(token -> frequencies.merge(token, weight, Integer::sum));
+        return tokens.size() * weight;
+    }
+    
+    /**
+     * Doc ids in ascending order with their weighted term frequencies. Ids are only ever
+     * appended, so the arrays stay sorted; removed documents are skipped via the live set
+     * until the next compaction.
+     */
+    private static final class PostingList {
+        
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+        private int liveDocs;
+        
+        void add(int doc, int frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = frequency;
+            size++;
+            liveDocs++;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.yohannesTz.jobhub.search;
+
+import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Keyword search over job postings that {@code JobService} uses in place of the database
+ * when an implementation is configured. Implementations are kept current through
+ * {@link #index} and {@link #remove} and can be reloaded wholesale with {@link #rebuild}.
+ */
+public interface JobSearchEngine {
+    
+    Page<JobResponse> search(String keyword, Pageable pageable);
+    
+    void index(JobResponse job);
+    
+    void remove(UUID jobId);
+    
+    void rebuild(Collection<JobResponse> jobs);
+}
@@ -3,25 +3,56 @@ package com.github.yohannesTz.jobhub.security;
 import com.github.yohannesTz.jobhub.entity.User;
 import com.github.yohannesTz.jobhub.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
+    private final PrincipalCache principalCache;
     private final UserRepository userRepository;
     
+    // Used to check a password, so it reads the current hash rather than a cached one that
+    // another instance may have changed or deleted within the cache TTL
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         
+        return toUserDetails(user);
+    }
+    
+    // For requests that already carry a signed token; no password is checked against the result
+    public UserDetails loadCachedUserByUsername(String email) throws UsernameNotFoundException {
+        User user = principalCache.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        
+        return toUserDetails(user);
+    }
+    
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        principalCache.evict(user.getUsername());
+        log.info("Password hash upgraded for user: {}", user.getUsername());
+        
+        return org.springframework.security.core.userdetails.User.withUserDetails(user)
+                .password(newPassword)
+                .build();
+    }
+    
+    private UserDetails toUserDetails(User user) {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getEmail())
                 .password(user.getPassword())
@@ -1,6 +1,10 @@
 package com.github.yohannesTz.jobhub.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.yohannesTz.jobhub.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,17 +21,50 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
     
-    @Value("${jwt.secret}")
-    private String secret;
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
     
-    @Value("${jwt.access-token-expiration}")
-    private Long accessTokenExpiration;
+    private static final Duration VERIFIED_TOKEN_TTL = Duration.ofMinutes(5);
     
-    @Value("${jwt.refresh-token-expiration}")
-    private Long refreshTokenExpiration;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Long accessTokenExpiration;
     
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    // Recently verified tokens by signature; null when jwt.verified-cache-size is 0
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.access-token-expiration}") Long accessTokenExpiration,
+                   @Value("${jwt.verified-cache-size:0}") long verifiedCacheSize) {
+        // Key and parser are immutable and thread-safe, so both are built once
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(verifiedCacheSize).expireAfterWrite(VERIFIED_TOKEN_TTL).build()
+                : null;
+    }
+    
+    /**
+     * Verifies the signature and expiry and returns the claims; throws a
+     * {@link io.jsonwebtoken.JwtException} when the token is invalid or expired.
+     */
+    public Claims parseClaims(String token) {
+        if (verifiedTokens == null) {
+            return parser.parseSignedClaims(token).getPayload();
+        }
+        
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        VerifiedToken cached = verifiedTokens.getIfPresent(signature);
+        // A hit must be the exact same token and still unexpired; anything else is verified again
+        if (cached != null && cached.token().equals(token) && !isExpired(cached.claims())) {
+            return cached.claims();
+        }
+        
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(signature, new VerifiedToken(token, claims));
+        return claims;
     }
     
     public String extractUsername(String token) {
@@ -38,30 +76,17 @@ public class JwtUtil {
     }
     
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseClaims(token);
         return claimsResolver.apply(claims);
     }
     
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-    
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-    
-    public String generateAccessToken(String email) {
+    public String generateAccessToken(User user) {
+        // Enough for the filter to authenticate without a database lookup when jwt.stateless is on
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, email, accessTokenExpiration);
-    }
-    
-    public String generateRefreshToken(String email) {
-        Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, email, refreshTokenExpiration);
+        claims.put(CLAIM_USER_ID, user.getId().toString());
+        claims.put(CLAIM_ROLE, user.getRole().name());
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        return createToken(claims, user.getEmail(), accessTokenExpiration);
     }
     
     private String createToken(Map<String, Object> claims, String subject, Long expiration) {
@@ -70,13 +95,22 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
     
     public Boolean validateToken(String token, String email) {
-        final String tokenEmail = extractUsername(token);
-        return (tokenEmail.equals(email) && !isTokenExpired(token));
+        return validateToken(parseClaims(token), email);
+    }
+    
+    public Boolean validateToken(Claims claims, String email) {
+        return claims.getSubject().equals(email) && !isExpired(claims);
+    }
+    
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
+    }
+    
+    private record VerifiedToken(String token, Claims claims) {
     }
 }
-
@@ -0,0 +1,67 @@
+package com.github.yohannesTz.jobhub.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * Startup micro-benchmark that picks the hash cost whose verification time is closest to a
+ * target on the current hardware. The configured cost is treated as a floor, so calibration
+ * can only make hashes stronger.
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+    
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+    private static final int SAMPLES = 5;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MAX_PBKDF2_ITERATIONS = 10_000_000;
+    
+    private PasswordHashCalibrator() {
+    }
+    
+    /** BCrypt doubles its work per strength step, so one measurement predicts the rest. */
+    public static int calibrateBcryptStrength(long targetMillis, int minimumStrength) {
+        double measured = medianVerifyMillis(BCryptPasswordEncoder::new, minimumStrength);
+        int extraSteps = (int) Math.floor(Math.log(targetMillis / measured) / Math.log(2) + 0.5);
+        int strength = Math.min(MAX_BCRYPT_STRENGTH, minimumStrength + Math.max(0, extraSteps));
+        log.info("BCrypt verification takes {} ms at strength {}; using strength {} for a {} ms target",
+                String.format("%.1f", measured), minimumStrength, strength, targetMillis);
+        return strength;
+    }
+    
+    /** PBKDF2 cost is linear in the iteration count. */
+    public static int calibratePbkdf2Iterations(long targetMillis, int minimumIterations) {
+        double measured = medianVerifyMillis(PasswordHashCalibrator::pbkdf2, minimumIterations);
+        long scaled = (long) (minimumIterations * (targetMillis / measured));
+        int iterations = (int) Math.min(MAX_PBKDF2_ITERATIONS, Math.max(minimumIterations, scaled));
+        log.info("PBKDF2 verification takes {} ms at {} iterations; using {} iterations for a {} ms target",
+                String.format("%.1f", measured), minimumIterations, iterations, targetMillis);
+        return iterations;
+    }
+    
+    public static Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", 16, iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+    
+    private static double medianVerifyMillis(IntFunction<PasswordEncoder> encoderForCost, int cost) {
+        PasswordEncoder encoder = encoderForCost.apply(cost);
+        String hash = encoder.encode(SAMPLE_PASSWORD);
+        // The first run pays for class loading and JIT warm-up
+        encoder.matches(SAMPLE_PASSWORD, hash);
+        
+        double[] samples = new double[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, hash);
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return Math.max(samples[SAMPLES / 2], 0.01);
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.yohannesTz.jobhub.security;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Short-lived cache of users by email, shared by the JWT filter and
+ * {@code UserService.getCurrentUser} so an authenticated request costs at most one lookup.
+ * Entries are detached snapshots; callers that modify a user must load it from the repository.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+    
+    private final UserRepository userRepository;
+    private final AsyncCache<String, User> cache;
+    
+    public PrincipalCache(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.ttl:60s}") Duration ttl,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+    
+    public Optional<User> findByEmail(String email) {
+        // The lookup runs after the placeholder is in place rather than inside the cache's
+        // compute, so concurrent callers wait on the future without pinning a carrier thread
+        CompletableFuture<User> loading = new CompletableFuture<>();
+        CompletableFuture<User> entry = cache.get(email, (key, executor) -> loading);
+        if (entry == loading) {
+            try {
+                // Unknown emails are not cached, so a later registration is picked up immediately
+                loading.complete(userRepository.findByEmail(email).orElse(null));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return Optional.ofNullable(entry.join()).map(PrincipalCache::copyOf);
+    }
+    
+    /**
+     * Drops the entry now and again once the surrounding transaction commits, so a
+     * concurrent request cannot re-cache the row as it was before the change.
+     */
+    public void evict(String email) {
+        cache.synchronous().invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.synchronous().invalidate(email);
+                }
+            });
+        }
+        log.debug("Principal cache entry evicted: {}", email);
+    }
+    
+    // Hand out copies so one caller's changes never leak into another request
+    private static User copyOf(User user) {
+        return User.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .role(user.getRole())
+                .profilePictureUrl(user.getProfilePictureUrl())
+                .resumeUrl(user.getResumeUrl())
+                .tokenVersion(user.getTokenVersion())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
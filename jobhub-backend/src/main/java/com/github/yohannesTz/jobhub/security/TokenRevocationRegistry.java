@@ -0,0 +1,100 @@
+package com.github.yohannesTz.jobhub.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minimum accepted token version per user, used by the stateless JWT mode in place of a
+ * per-request user lookup. Only users whose version changed within the access token
+ * lifetime are tracked, since older tokens have expired anyway. Deleted users are tracked
+ * through tombstones in {@code deleted_users}, as their row is gone. The table is reloaded
+ * from Postgres on a fixed delay; changes made on this instance apply immediately.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.stateless", havingValue = "true")
+@Slf4j
+public class TokenRevocationRegistry {
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final long accessTokenExpiration;
+    
+    private volatile Map<UUID, MinimumVersion> minimumVersions = Map.of();
+    private final Map<UUID, MinimumVersion> localRevocations = new ConcurrentHashMap<>();
+    
+    public TokenRevocationRegistry(JdbcTemplate jdbcTemplate,
+                                   @Value("${jwt.access-token-expiration}") long accessTokenExpiration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.accessTokenExpiration = accessTokenExpiration;
+    }
+    
+    public boolean isRevoked(UUID userId, int tokenVersion) {
+        MinimumVersion local = localRevocations.get(userId);
+        if (local != null && tokenVersion < local.version()) {
+            return true;
+        }
+        MinimumVersion minimum = minimumVersions.get(userId);
+        return minimum != null && tokenVersion < minimum.version();
+    }
+    
+    /**
+     * Rejects this user's tokens with a version below {@code minimumVersion} on this instance
+     * right away; other instances pick the change up on their next refresh.
+     */
+    public void revoke(UUID userId, int minimumVersion) {
+        localRevocations.merge(userId, new MinimumVersion(minimumVersion, System.currentTimeMillis()),
+                (current, update) -> update.version() > current.version() ? update : current);
+    }
+    
+    /**
+     * Rejects all tokens of a user being deleted. The tombstone is written in the caller's
+     * transaction, so other instances start rejecting the tokens once the deletion commits.
+     */
+    public void revokeDeleted(UUID userId) {
+        jdbcTemplate.update(
+                "INSERT INTO deleted_users (user_id, deleted_at) VALUES (?, ?) " +
+                "ON CONFLICT (user_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at",
+                userId, Timestamp.valueOf(LocalDateTime.now()));
+        revoke(userId, Integer.MAX_VALUE);
+    }
+    
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.revocation-refresh-interval:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusNanos(accessTokenExpiration * 1_000_000));
+        try {
+            // Tombstones older than the access token lifetime no longer guard anything
+            jdbcTemplate.update("DELETE FROM deleted_users WHERE deleted_at <= ?", cutoff);
+            Map<UUID, MinimumVersion> loaded = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT id, token_version FROM users WHERE token_version > 0 AND updated_at > ? " +
+                    "UNION ALL SELECT user_id, " + Integer.MAX_VALUE + " FROM deleted_users",
+                    rs -> {
+                        loaded.put(rs.getObject("id", UUID.class), new MinimumVersion(rs.getInt("token_version"), now));
+                    },
+                    cutoff);
+            minimumVersions = Map.copyOf(loaded);
+        } catch (DataAccessException e) {
+            log.warn("Could not refresh token revocations, keeping the previous table: {}", e.getMessage());
+            return;
+        }
+        
+        // Local entries cover the gap until the change is committed and reloaded
+        localRevocations.values().removeIf(entry -> now - entry.recordedAt() > accessTokenExpiration);
+        log.debug("Token revocation table refreshed with {} users", minimumVersions.size());
+    }
+    
+    private record MinimumVersion(int version, long recordedAt) {
+    }
+}
@@ -53,7 +53,7 @@ public class AuthService {
         log.info("User registered successfully: {}", user.getEmail());
         
         // Generate tokens
-        String accessToken = jwtUtil.generateAccessToken(user.getEmail());
+        String accessToken = jwtUtil.generateAccessToken(user);
         RefreshToken refreshToken = refreshTokenService.createRefreshToken(user);
         
         return AuthResponse.builder()
@@ -79,7 +79,7 @@ public class AuthService {
         log.info("User logged in successfully: {}", user.getEmail());
         
         // Generate tokens
-        String accessToken = jwtUtil.generateAccessToken(user.getEmail());
+        String accessToken = jwtUtil.generateAccessToken(user);
         RefreshToken refreshToken = refreshTokenService.createRefreshToken(user);
         
         return AuthResponse.builder()
@@ -89,12 +89,12 @@ public class AuthService {
                 .build();
     }
     
-    @Transactional
+    // Not transactional: a detected token reuse must commit its revocation before the error is thrown
     public AuthResponse refreshToken(String refreshTokenStr) {
-        RefreshToken refreshToken = refreshTokenService.verifyRefreshToken(refreshTokenStr);
+        RefreshToken refreshToken = refreshTokenService.rotateRefreshToken(refreshTokenStr);
         
         User user = refreshToken.getUser();
-        String accessToken = jwtUtil.generateAccessToken(user.getEmail());
+        String accessToken = jwtUtil.generateAccessToken(user);
         
         log.info("Access token refreshed for user: {}", user.getEmail());
         
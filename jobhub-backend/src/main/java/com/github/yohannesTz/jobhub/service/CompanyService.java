@@ -1,23 +1,28 @@
 package com.github.yohannesTz.jobhub.service;
 
+import com.github.yohannesTz.jobhub.config.CacheConfig;
 import com.github.yohannesTz.jobhub.dto.request.CreateCompanyRequest;
 import com.github.yohannesTz.jobhub.dto.request.UpdateCompanyRequest;
 import com.github.yohannesTz.jobhub.dto.response.CompanyResponse;
 import com.github.yohannesTz.jobhub.entity.Company;
+import com.github.yohannesTz.jobhub.entity.CompanyOwnership;
 import com.github.yohannesTz.jobhub.entity.User;
 import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.event.CompanyChangedEvent;
 import com.github.yohannesTz.jobhub.exception.BadRequestException;
 import com.github.yohannesTz.jobhub.exception.ResourceNotFoundException;
 import com.github.yohannesTz.jobhub.exception.UnauthorizedException;
+import com.github.yohannesTz.jobhub.repository.CompanyOwnershipRepository;
 import com.github.yohannesTz.jobhub.repository.CompanyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,7 +30,9 @@ import java.util.stream.Collectors;
 public class CompanyService {
     
     private final CompanyRepository companyRepository;
+    private final CompanyOwnershipRepository companyOwnershipRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public CompanyResponse createCompany(CreateCompanyRequest request) {
@@ -45,15 +52,32 @@ public class CompanyService {
         company = companyRepository.save(company);
         log.info("Company created: {} by user: {}", company.getName(), currentUser.getEmail());
         
-        return mapToCompanyResponse(company);
+        CompanyResponse response = mapToCompanyResponse(company);
+        eventPublisher.publishEvent(new CompanyChangedEvent(response));
+        return response;
     }
     
+    // Cached lists are shared between requests, so they are returned unmodifiable
+    @Cacheable(cacheNames = CacheConfig.COMPANY_LIST, key = "@publicReadCacheEvictor.companyListGeneration", sync = true,
+               condition = "!@publicReadCacheEvictor.readingOwnWrites")
+    @Transactional(readOnly = true)
     public List<CompanyResponse> getAllCompanies() {
         return companyRepository.findAll().stream()
                 .map(this::mapToCompanyResponse)
-                .collect(Collectors.toList());
+                .toList();
+    }
+    
+    @Transactional(readOnly = true)
+    public List<CompanyResponse> getMyCompanies() {
+        User currentUser = userService.getCurrentUser();
+        return companyRepository.findByOwner(currentUser).stream()
+                .map(this::mapToCompanyResponse)
+                .toList();
     }
     
+    @Cacheable(cacheNames = CacheConfig.COMPANIES, key = "@publicReadCacheEvictor.companyKey(#companyId)", sync = true,
+               condition = "!@publicReadCacheEvictor.readingOwnWrites")
+    @Transactional(readOnly = true)
     public CompanyResponse getCompanyById(UUID companyId) {
         Company company = findCompanyById(companyId);
         return mapToCompanyResponse(company);
@@ -80,17 +104,39 @@ public class CompanyService {
             company.setWebsite(request.getWebsite());
         }
         
-        company = companyRepository.save(company);
+        // Flushed so the response carries the new version and update time
+        company = companyRepository.saveAndFlush(company);
         log.info("Company updated: {}", company.getName());
         
-        return mapToCompanyResponse(company);
+        CompanyResponse response = mapToCompanyResponse(company);
+        eventPublisher.publishEvent(new CompanyChangedEvent(response));
+        return response;
     }
     
+    @Transactional(readOnly = true)
+    public long getCompanyVersion(UUID companyId) {
+        return companyRepository.findVersionById(companyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + companyId));
+    }
+    
+    @Transactional(readOnly = true)
     public Company findCompanyById(UUID companyId) {
-        return companyRepository.findById(companyId)
+        return companyRepository.findDetailedById(companyId)
                 .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + companyId));
     }
     
+    // Served from the second-level cache once seen, so ownership checks need no query
+    @Transactional(readOnly = true)
+    public CompanyOwnership findOwnership(UUID companyId) {
+        return companyOwnershipRepository.findById(companyId)
+                .orElseThrow(() -> new ResourceNotFoundException("Company not found with id: " + companyId));
+    }
+    
+    // Unloaded reference for attaching jobs to a company whose ownership has been checked
+    public Company getCompanyReference(UUID companyId) {
+        return companyRepository.getReferenceById(companyId);
+    }
+    
     private CompanyResponse mapToCompanyResponse(Company company) {
         return CompanyResponse.builder()
                 .id(company.getId())
@@ -100,6 +146,8 @@ public class CompanyService {
                 .ownerId(company.getOwner().getId())
                 .ownerName(company.getOwner().getName())
                 .createdAt(company.getCreatedAt())
+                .updatedAt(company.getUpdatedAt())
+                .version(company.getVersion())
                 .build();
     }
 }
@@ -1,23 +1,36 @@
 package com.github.yohannesTz.jobhub.service;
 
 import com.github.yohannesTz.jobhub.dto.request.ApplyJobRequest;
+import com.github.yohannesTz.jobhub.dto.response.CursorPage;
 import com.github.yohannesTz.jobhub.dto.response.JobApplicationResponse;
 import com.github.yohannesTz.jobhub.entity.Job;
 import com.github.yohannesTz.jobhub.entity.JobApplication;
 import com.github.yohannesTz.jobhub.entity.User;
 import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.entity.UuidV7Generator;
 import com.github.yohannesTz.jobhub.exception.BadRequestException;
+import com.github.yohannesTz.jobhub.exception.ConflictException;
 import com.github.yohannesTz.jobhub.exception.ResourceNotFoundException;
 import com.github.yohannesTz.jobhub.exception.UnauthorizedException;
+import com.github.yohannesTz.jobhub.repository.ApplicationSubmission;
 import com.github.yohannesTz.jobhub.repository.JobApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,69 +40,121 @@ public class JobApplicationService {
     private final JobApplicationRepository applicationRepository;
     private final JobService jobService;
     private final UserService userService;
+    private final ObjectMapper objectMapper;
     
+    private static final int EXPORT_FLUSH_INTERVAL = 100;
+    
+    /**
+     * Checks eligibility and inserts the application in a single statement; see
+     * {@link com.github.yohannesTz.jobhub.repository.JobApplicationSubmissionRepositoryImpl}.
+     */
     @Transactional
     public JobApplicationResponse applyToJob(UUID jobId, ApplyJobRequest request) {
-        User currentUser = userService.getCurrentUser();
-        Job job = jobService.findJobById(jobId);
+        boolean useStoredResume = Boolean.TRUE.equals(request.getUseStoredResume());
+        if (!useStoredResume && (request.getResumeUrl() == null || request.getResumeUrl().isBlank())) {
+            throw new BadRequestException("Resume URL is required");
+        }
         
-        // Users with USER role only
-        if (currentUser.getRole() != UserRole.USER) {
+        ApplicationSubmission submission = applicationRepository.submitApplication(
+                        UuidV7Generator.generate(), jobId, userService.getCurrentUserEmail(), request.getMessage(),
+                        useStoredResume, request.getResumeUrl(), LocalDateTime.now())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        
+        // Nothing was inserted unless every rule passed; report the first one that failed
+        if (submission.getJobId() == null) {
+            throw new ResourceNotFoundException("Job not found with id: " + jobId);
+        }
+        if (submission.getRole() != UserRole.USER) {
             throw new BadRequestException("Only users with USER role can apply to jobs");
         }
-        
-        // Check if job belongs to user's own company (prevent self-application)
-        if (job.getCompany().getOwner().getId().equals(currentUser.getId())) {
+        if (submission.getOwnerId().equals(submission.getUserId())) {
             throw new BadRequestException("You cannot apply to your own company's job");
         }
-        
-        // Check for duplicate application
-        if (applicationRepository.existsByJobAndUser(job, currentUser)) {
-            throw new BadRequestException("You have already applied to this job");
+        if (submission.isAlreadyApplied()) {
+            throw new ConflictException("You have already applied to this job");
         }
-        
-        // Determine resume URL
-        String resumeUrl;
-        if (Boolean.TRUE.equals(request.getUseStoredResume())) {
-            resumeUrl = currentUser.getResumeUrl();
-            if (resumeUrl == null || resumeUrl.isBlank()) {
-                throw new BadRequestException("No stored resume found. Please upload a resume first.");
-            }
-        } else {
-            resumeUrl = request.getResumeUrl();
-            if (resumeUrl == null || resumeUrl.isBlank()) {
-                throw new BadRequestException("Resume URL is required");
-            }
+        if (submission.getResumeUrl() == null) {
+            throw new BadRequestException("No stored resume found. Please upload a resume first.");
         }
+        if (!submission.isInserted()) {
+            // A concurrent request for the same job and user inserted first
+            throw new ConflictException("You have already applied to this job");
+        }
+        
+        log.info("Application submitted by {} for job: {}", submission.getUserEmail(), submission.getJobTitle());
         
-        JobApplication application = JobApplication.builder()
-                .job(job)
-                .user(currentUser)
+        return JobApplicationResponse.builder()
+                .id(submission.getApplicationId())
+                .jobId(submission.getJobId())
+                .jobTitle(submission.getJobTitle())
+                .userId(submission.getUserId())
+                .userName(submission.getUserName())
+                .userEmail(submission.getUserEmail())
                 .message(request.getMessage())
-                .resumeUrl(resumeUrl)
+                .resumeUrl(submission.getResumeUrl())
+                .appliedAt(submission.getAppliedAt())
                 .build();
-        
-        application = applicationRepository.save(application);
-        log.info("Application submitted by {} for job: {}", currentUser.getEmail(), job.getTitle());
-        
-        return mapToJobApplicationResponse(application);
     }
     
+    @Transactional(readOnly = true)
     public List<JobApplicationResponse> getApplicationsForJob(UUID jobId) {
         Job job = jobService.findJobById(jobId);
-        User currentUser = userService.getCurrentUser();
-        
-        // Only company owner or admin can see applications
-        if (!job.getCompany().getOwner().getId().equals(currentUser.getId()) && 
-            currentUser.getRole() != UserRole.ADMIN) {
-            throw new UnauthorizedException("You don't have permission to view these applications");
-        }
+        checkCanViewApplications(job);
         
         return applicationRepository.findByJob(job).stream()
                 .map(this::mapToJobApplicationResponse)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public Page<JobApplicationResponse> getApplicationsForJob(UUID jobId, Pageable pageable) {
+        Job job = jobService.findJobById(jobId);
+        checkCanViewApplications(job);
+        
+        return applicationRepository.findByJob(job, pageable)
+                .map(this::mapToJobApplicationResponse);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<JobApplicationResponse> getApplicationsForJob(UUID jobId, String cursor, int size) {
+        Job job = jobService.findJobById(jobId);
+        checkCanViewApplications(job);
+        
+        Limit limit = KeysetPage.limit(size);
+        List<JobApplication> applications;
+        if (cursor == null || cursor.isBlank()) {
+            applications = applicationRepository.findByJobOrderByAppliedAtAscIdAsc(job, limit);
+        } else {
+            SeekCursor position = SeekCursor.decode(cursor);
+            applications = applicationRepository.findByJobAfter(job, position.getTimestamp(), position.getId(), limit);
+        }
+        return toCursorPage(applications, size);
+    }
+    
+    @Transactional(readOnly = true)
+    public void verifyCanViewApplications(UUID jobId) {
+        checkCanViewApplications(jobService.findJobById(jobId));
+    }
+    
+    // Callers must check access first; this runs outside the request thread
+    @Transactional(readOnly = true)
+    public void exportApplicationsForJob(UUID jobId, OutputStream out) throws IOException {
+        int written = 0;
+        try (Stream<JobApplicationResponse> rows = applicationRepository.streamByJobId(jobId)) {
+            Iterator<JobApplicationResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+        log.info("Exported {} applications for job: {}", written, jobId);
+    }
+    
+    @Transactional(readOnly = true)
     public List<JobApplicationResponse> getMyApplications() {
         User currentUser = userService.getCurrentUser();
         
@@ -98,8 +163,32 @@ public class JobApplicationService {
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public Page<JobApplicationResponse> getMyApplications(Pageable pageable) {
+        User currentUser = userService.getCurrentUser();
+        
+        return applicationRepository.findByUser(currentUser, pageable)
+                .map(this::mapToJobApplicationResponse);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<JobApplicationResponse> getMyApplications(String cursor, int size) {
+        User currentUser = userService.getCurrentUser();
+        
+        Limit limit = KeysetPage.limit(size);
+        List<JobApplication> applications;
+        if (cursor == null || cursor.isBlank()) {
+            applications = applicationRepository.findByUserOrderByAppliedAtAscIdAsc(currentUser, limit);
+        } else {
+            SeekCursor position = SeekCursor.decode(cursor);
+            applications = applicationRepository.findByUserAfter(currentUser, position.getTimestamp(), position.getId(), limit);
+        }
+        return toCursorPage(applications, size);
+    }
+    
+    @Transactional(readOnly = true)
     public JobApplicationResponse getApplicationById(UUID applicationId) {
-        JobApplication application = applicationRepository.findById(applicationId)
+        JobApplication application = applicationRepository.findDetailedById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + applicationId));
         
         User currentUser = userService.getCurrentUser();
@@ -114,7 +203,24 @@ public class JobApplicationService {
         return mapToJobApplicationResponse(application);
     }
     
-    private JobApplicationResponse mapToJobApplicationResponse(JobApplication application) {
+    private void checkCanViewApplications(Job job) {
+        User currentUser = userService.getCurrentUser();
+        
+        // Only company owner or admin can see applications
+        if (!job.getCompany().getOwner().getId().equals(currentUser.getId()) && 
+            currentUser.getRole() != UserRole.ADMIN) {
+            throw new UnauthorizedException("You don't have permission to view these applications");
+        }
+    }
+    
+    private CursorPage<JobApplicationResponse> toCursorPage(List<JobApplication> applications, int size) {
+        return KeysetPage.of(applications, size,
+                application -> new SeekCursor(application.getAppliedAt(), application.getId()),
+                this::mapToJobApplicationResponse);
+    }
+    
+    // Package-private for MapperBenchmark
+    JobApplicationResponse mapToJobApplicationResponse(JobApplication application) {
         return JobApplicationResponse.builder()
                 .id(application.getId())
                 .jobId(application.getJob().getId())
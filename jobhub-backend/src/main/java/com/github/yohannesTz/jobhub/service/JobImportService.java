@@ -0,0 +1,166 @@
+package com.github.yohannesTz.jobhub.service;
+
+import com.github.yohannesTz.jobhub.dto.request.CreateJobRequest;
+import com.github.yohannesTz.jobhub.dto.response.BulkJobImportResponse;
+import com.github.yohannesTz.jobhub.dto.response.BulkRowError;
+import com.github.yohannesTz.jobhub.entity.Company;
+import com.github.yohannesTz.jobhub.entity.CompanyOwnership;
+import com.github.yohannesTz.jobhub.entity.Job;
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.event.JobChangedEvent;
+import com.github.yohannesTz.jobhub.exception.BadRequestException;
+import com.github.yohannesTz.jobhub.exception.UnauthorizedException;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.DatabindException;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk job creation for one company. Rows are read one at a time from a JSON array or an
+ * NDJSON stream, validated, and inserted in JDBC batches; invalid rows are reported back
+ * instead of failing the whole import.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobImportService {
+    
+    private final JobService jobService;
+    private final CompanyService companyService;
+    private final UserService userService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${jobs.bulk.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${jobs.bulk.max-rows:10000}")
+    private int maxRows;
+    
+    @Transactional
+    public BulkJobImportResponse importJobs(UUID companyId, InputStream body) {
+        User currentUser = userService.getCurrentUser();
+        CompanyOwnership ownership = companyService.findOwnership(companyId);
+        
+        // Authorized once for the whole import
+        if (!ownership.getOwnerId().equals(currentUser.getId()) &&
+            currentUser.getRole() != UserRole.ADMIN) {
+            throw new UnauthorizedException("You don't have permission to create jobs for this company");
+        }
+        Company company = companyService.getCompanyReference(companyId);
+        
+        // Applies to this transaction's session only; UUID ids are assigned in memory, so inserts batch
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        
+        List<BulkRowError> errors = new ArrayList<>();
+        List<Job> pending = new ArrayList<>(batchSize);
+        int received = 0;
+        int created = 0;
+        
+        try (MappingIterator<CreateJobRequest> rows = objectMapper.readerFor(CreateJobRequest.class).readValues(body)) {
+            while (rows.hasNextValue()) {
+                int row = received++;
+                if (received > maxRows) {
+                    throw new BadRequestException("A bulk import accepts at most " + maxRows + " jobs");
+                }
+                
+                CreateJobRequest request;
+                try {
+                    request = rows.nextValue();
+                } catch (DatabindException e) {
+                    errors.add(BulkRowError.builder().row(row).message(e.getOriginalMessage()).build());
+                    continue;
+                }
+                
+                BulkRowError error = validate(row, request, companyId);
+                if (error != null) {
+                    errors.add(error);
+                    continue;
+                }
+                
+                Job job = Job.builder()
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .requirements(request.getRequirements())
+                        .location(request.getLocation())
+                        .salary(request.getSalary())
+                        .company(company)
+                        .build();
+                entityManager.persist(job);
+                pending.add(job);
+                
+                if (pending.size() == batchSize) {
+                    created += flush(pending);
+                }
+            }
+        } catch (StreamReadException e) {
+            throw new BadRequestException("Malformed JSON after row " + received + ": " + e.getOriginalMessage());
+        }
+        created += flush(pending);
+        
+        log.info("Bulk import created {} of {} jobs for company: {}", created, received, company.getName());
+        
+        return BulkJobImportResponse.builder()
+                .received(received)
+                .created(created)
+                .errors(errors)
+                .build();
+    }
+    
+    // Sends the pending inserts as one JDBC batch and detaches them so the session stays small
+    private int flush(List<Job> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        entityManager.flush();
+        for (Job job : pending) {
+            eventPublisher.publishEvent(JobChangedEvent.created(jobService.mapToJobResponse(job)));
+        }
+        int flushed = pending.size();
+        pending.clear();
+        entityManager.clear();
+        return flushed;
+    }
+    
+    private BulkRowError validate(int row, CreateJobRequest request, UUID companyId) {
+        if (request == null) {
+            return BulkRowError.builder().row(row).message("Job is required").build();
+        }
+        if (request.getCompanyId() == null) {
+            request.setCompanyId(companyId);
+        }
+        
+        Map<String, String> validationErrors = new LinkedHashMap<>();
+        if (!companyId.equals(request.getCompanyId())) {
+            validationErrors.put("companyId", "Must match the companyId of the import");
+        }
+        Set<ConstraintViolation<CreateJobRequest>> violations = validator.validate(request);
+        violations.forEach(violation ->
+                validationErrors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+        
+        return validationErrors.isEmpty()
+                ? null
+                : BulkRowError.builder().row(row).validationErrors(validationErrors).build();
+    }
+}
@@ -1,22 +1,37 @@
 package com.github.yohannesTz.jobhub.service;
 
+import com.github.yohannesTz.jobhub.config.CacheConfig;
 import com.github.yohannesTz.jobhub.dto.request.CreateJobRequest;
+import com.github.yohannesTz.jobhub.dto.request.JobFacetFilter;
 import com.github.yohannesTz.jobhub.dto.request.UpdateJobRequest;
+import com.github.yohannesTz.jobhub.dto.response.CursorPage;
+import com.github.yohannesTz.jobhub.dto.response.FacetedJobSearchResponse;
 import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import com.github.yohannesTz.jobhub.dto.response.SearchPage;
 import com.github.yohannesTz.jobhub.entity.Company;
+import com.github.yohannesTz.jobhub.entity.CompanyOwnership;
 import com.github.yohannesTz.jobhub.entity.Job;
 import com.github.yohannesTz.jobhub.entity.User;
 import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.event.JobChangedEvent;
 import com.github.yohannesTz.jobhub.exception.ResourceNotFoundException;
 import com.github.yohannesTz.jobhub.exception.UnauthorizedException;
 import com.github.yohannesTz.jobhub.repository.JobRepository;
+import com.github.yohannesTz.jobhub.repository.JobVersion;
+import com.github.yohannesTz.jobhub.search.JobSearchEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -27,17 +42,26 @@ public class JobService {
     private final JobRepository jobRepository;
     private final CompanyService companyService;
     private final UserService userService;
+    private final ObjectProvider<JobSearchEngine> searchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${jobs.search.fuzzy.threshold:0.4}")
+    private double fuzzyThreshold;
+    
+    @Value("${jobs.search.facets.max-values:20}")
+    private int maxFacetValues;
     
     @Transactional
     public JobResponse createJob(CreateJobRequest request) {
         User currentUser = userService.getCurrentUser();
-        Company company = companyService.findCompanyById(request.getCompanyId());
+        CompanyOwnership ownership = companyService.findOwnership(request.getCompanyId());
         
         // Check if user owns the company
-        if (!company.getOwner().getId().equals(currentUser.getId()) && 
+        if (!ownership.getOwnerId().equals(currentUser.getId()) && 
             currentUser.getRole() != UserRole.ADMIN) {
             throw new UnauthorizedException("You don't have permission to create jobs for this company");
         }
+        Company company = companyService.getCompanyReference(ownership.getId());
         
         Job job = Job.builder()
                 .title(request.getTitle())
@@ -51,19 +75,68 @@ public class JobService {
         job = jobRepository.save(job);
         log.info("Job created: {} for company: {}", job.getTitle(), company.getName());
         
-        return mapToJobResponse(job);
+        JobResponse response = mapToJobResponse(job);
+        eventPublisher.publishEvent(JobChangedEvent.created(response));
+        return response;
     }
     
+    @Cacheable(cacheNames = CacheConfig.JOB_PAGES, sync = true,
+               key = "@publicReadCacheEvictor.jobPagesGeneration + ':' + #pageable.pageNumber + ':' + #pageable.pageSize",
+               condition = "(#keyword == null || #keyword.isBlank()) && " +
+                           "#pageable.pageNumber < T(com.github.yohannesTz.jobhub.config.CacheConfig).CACHED_JOB_PAGES && " +
+                           "!@publicReadCacheEvictor.readingOwnWrites")
+    @Transactional(readOnly = true)
     public Page<JobResponse> searchJobs(String keyword, Pageable pageable) {
         Page<Job> jobs;
         if (keyword != null && !keyword.isBlank()) {
+            JobSearchEngine engine = searchEngine.getIfAvailable();
+            if (engine != null) {
+                return engine.search(keyword, pageable);
+            }
             jobs = jobRepository.searchJobs(keyword, pageable);
+            if (jobs.isEmpty()) {
+                return new SearchPage<>(jobs.map(this::mapToJobResponse), suggestKeyword(keyword));
+            }
         } else {
             jobs = jobRepository.findAllByOrderByPostedAtDesc(pageable);
         }
         return jobs.map(this::mapToJobResponse);
     }
     
+    @Transactional(readOnly = true)
+    public Page<JobResponse> fuzzySearchJobs(String keyword, Pageable pageable) {
+        if (keyword == null || keyword.isBlank()) {
+            return searchJobs(keyword, pageable);
+        }
+        
+        // The similarity threshold is a session setting, applied for this transaction only
+        jobRepository.setWordSimilarityThreshold(String.valueOf(fuzzyThreshold));
+        Page<JobResponse> jobs = jobRepository.fuzzySearchJobs(keyword.trim(), pageable)
+                .map(this::mapToJobResponse);
+        return new SearchPage<>(jobs, suggestKeyword(keyword));
+    }
+    
+    @Transactional(readOnly = true)
+    public FacetedJobSearchResponse searchJobsWithFacets(JobFacetFilter filter, Pageable pageable) {
+        return jobRepository.searchWithFacets(filter, pageable, maxFacetValues);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> getLatestJobs(String cursor, int size) {
+        Limit limit = KeysetPage.limit(size);
+        List<Job> jobs;
+        if (cursor == null || cursor.isBlank()) {
+            jobs = jobRepository.findLatest(limit);
+        } else {
+            SeekCursor position = SeekCursor.decode(cursor);
+            jobs = jobRepository.findLatestBefore(position.getTimestamp(), position.getId(), limit);
+        }
+        return KeysetPage.of(jobs, size, job -> new SeekCursor(job.getPostedAt(), job.getId()), this::mapToJobResponse);
+    }
+    
+    @Cacheable(cacheNames = CacheConfig.JOBS, key = "@publicReadCacheEvictor.jobKey(#jobId)", sync = true,
+               condition = "!@publicReadCacheEvictor.readingOwnWrites")
+    @Transactional(readOnly = true)
     public JobResponse getJobById(UUID jobId) {
         Job job = findJobById(jobId);
         return mapToJobResponse(job);
@@ -96,10 +169,13 @@ public class JobService {
             job.setSalary(request.getSalary());
         }
         
-        job = jobRepository.save(job);
+        // Flushed so the response carries the new version and update time
+        job = jobRepository.saveAndFlush(job);
         log.info("Job updated: {}", job.getTitle());
         
-        return mapToJobResponse(job);
+        JobResponse response = mapToJobResponse(job);
+        eventPublisher.publishEvent(JobChangedEvent.updated(response));
+        return response;
     }
     
     @Transactional
@@ -115,25 +191,31 @@ public class JobService {
         
         jobRepository.delete(job);
         log.info("Job deleted: {}", job.getTitle());
+        
+        eventPublisher.publishEvent(JobChangedEvent.deleted(jobId));
+    }
+    
+    @Transactional(readOnly = true)
+    @Transactional(readOnly = true)
+    public JobVersion getJobVersion(UUID jobId) {
+        return jobRepository.findVersionById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
     }
     
     public Job findJobById(UUID jobId) {
-        return jobRepository.findById(jobId)
+        return jobRepository.findDetailedById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
     }
     
-    private JobResponse mapToJobResponse(Job job) {
-        return JobResponse.builder()
-                .id(job.getId())
-                .title(job.getTitle())
-                .description(job.getDescription())
-                .requirements(job.getRequirements())
-                .location(job.getLocation())
-                .salary(job.getSalary())
-                .companyId(job.getCompany().getId())
-                .companyName(job.getCompany().getName())
-                .postedAt(job.getPostedAt())
-                .build();
+    private String suggestKeyword(String keyword) {
+        String trimmed = keyword.trim();
+        return jobRepository.suggestKeyword(trimmed)
+                .filter(word -> !word.equalsIgnoreCase(trimmed))
+                .orElse(null);
+    }
+    
+    // Package-private for JobImportService and MapperBenchmark
+    JobResponse mapToJobResponse(Job job) {
+        return JobResponse.from(job);
     }
 }
-
@@ -0,0 +1,38 @@
+package com.github.yohannesTz.jobhub.service;
+
+import com.github.yohannesTz.jobhub.dto.response.CursorPage;
+import com.github.yohannesTz.jobhub.exception.BadRequestException;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination over listings ordered by (timestamp, id): queries fetch one row more
+ * than the page size, which tells whether there is a next page without a count query.
+ */
+final class KeysetPage {
+    
+    private KeysetPage() {
+    }
+    
+    static Limit limit(int size) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        return Limit.of(size + 1);
+    }
+    
+    static <E, R> CursorPage<R> of(List<E> rows, int size, Function<E, SeekCursor> position, Function<E, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? position.apply(content.get(content.size() - 1)).encode() : null;
+        
+        return CursorPage.<R>builder()
+                .content(content.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.github.yohannesTz.jobhub.service;
+
+import com.github.yohannesTz.jobhub.config.CacheConfig;
+import com.github.yohannesTz.jobhub.config.ReadYourWritesTracker;
+import com.github.yohannesTz.jobhub.event.CompanyChangedEvent;
+import com.github.yohannesTz.jobhub.event.JobChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Evicts the public read caches once a job or company change has committed, so the next
+ * read loads the new state. With read replicas the eviction is repeated after the
+ * read-your-writes window, dropping anything a lagging replica served in between.
+ * Every cache is keyed by a generation that each change advances: a load still in flight
+ * during the eviction puts its result under the old generation, which no later read asks
+ * for, so it ages out instead of being served. Single jobs and companies use per-entity
+ * generations spread over a fixed number of stripes, so one change only invalidates the
+ * few entries sharing its stripe.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PublicReadCacheEvictor {
+    
+    private final CacheManager cacheManager;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+    private final TaskScheduler taskScheduler;
+    
+    private static final int STRIPES = 1024;
+    
+    private final AtomicLong jobPagesGeneration = new AtomicLong();
+    private final AtomicLong companyListGeneration = new AtomicLong();
+    // Advanced on company changes, which alter the company name in every job response
+    private final AtomicLong jobsGeneration = new AtomicLong();
+    private final AtomicLongArray jobGenerations = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray companyGenerations = new AtomicLongArray(STRIPES);
+    
+    public long getJobPagesGeneration() {
+        return jobPagesGeneration.get();
+    }
+    
+    public long getCompanyListGeneration() {
+        return companyListGeneration.get();
+    }
+    
+    public String jobKey(UUID jobId) {
+        return jobsGeneration.get() + ":" + jobGenerations.get(stripe(jobId)) + ":" + jobId;
+    }
+    
+    public String companyKey(UUID companyId) {
+        return companyGenerations.get(stripe(companyId)) + ":" + companyId;
+    }
+    
+    /**
+     * True while the current request must see its own recent writes; the caches may hold
+     * what another request loaded from a lagging replica, so such requests skip them.
+     */
+    public boolean isReadingOwnWrites() {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return tracker != null && tracker.isReadingOwnWrites();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        evictJob(event);
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        if (tracker != null) {
+            taskScheduler.schedule(() -> evictJob(event), Instant.now().plus(tracker.getWindow()));
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        evictCompany(event);
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        if (tracker != null) {
+            taskScheduler.schedule(() -> evictCompany(event), Instant.now().plus(tracker.getWindow()));
+        }
+    }
+    
+    private void evictJob(JobChangedEvent event) {
+        String key = jobKey(event.getJobId());
+        jobGenerations.incrementAndGet(stripe(event.getJobId()));
+        evict(CacheConfig.JOBS, key);
+        // Any change can move jobs between listing pages
+        jobPagesGeneration.incrementAndGet();
+        clear(CacheConfig.JOB_PAGES);
+    }
+    
+    private void evictCompany(CompanyChangedEvent event) {
+        UUID companyId = event.getCompany().getId();
+        String key = companyKey(companyId);
+        companyGenerations.incrementAndGet(stripe(companyId));
+        evict(CacheConfig.COMPANIES, key);
+        companyListGeneration.incrementAndGet();
+        clear(CacheConfig.COMPANY_LIST);
+        // Job responses carry the company name
+        jobsGeneration.incrementAndGet();
+        clear(CacheConfig.JOBS);
+        jobPagesGeneration.incrementAndGet();
+        clear(CacheConfig.JOB_PAGES);
+    }
+    
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+        log.debug("Evicted {} from cache {}", key, cacheName);
+    }
+    
+    private static int stripe(UUID id) {
+        return Math.floorMod(id.hashCode(), STRIPES);
+    }
+    
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.yohannesTz.jobhub.service;
+
+import com.github.yohannesTz.jobhub.config.SchedulingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes expired refresh tokens in small batches. Each batch is its own short statement
+ * that locks at most {@code batchSize} rows and skips rows a refresh is holding, with a
+ * pause in between so the purge never competes with logins for long. Runs on its own
+ * scheduler thread, so the pauses do not delay other scheduled tasks.
+ */
+@Component
+@Slf4j
+public class RefreshTokenReaper {
+    
+    private static final String DELETE_EXPIRED_BATCH =
+            "DELETE FROM refresh_tokens WHERE id IN (" +
+            "SELECT id FROM refresh_tokens WHERE expiry_date < ? " +
+            "ORDER BY expiry_date LIMIT ? FOR UPDATE SKIP LOCKED)";
+    
+    // Rotated-away hashes are kept only as long as the session they belonged to could live
+    private static final String DELETE_EXPIRED_HISTORY_BATCH =
+            "DELETE FROM refresh_token_history WHERE token_hash IN (" +
+            "SELECT token_hash FROM refresh_token_history WHERE expiry_date < ? " +
+            "ORDER BY expiry_date LIMIT ? FOR UPDATE SKIP LOCKED)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+    private final Counter reaped;
+    private final Timer duration;
+    
+    public RefreshTokenReaper(JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.refresh-token-purge.batch-size:1000}") int batchSize,
+                              @Value("${jwt.refresh-token-purge.max-batches:100}") int maxBatches,
+                              @Value("${jwt.refresh-token-purge.pause:100ms}") Duration pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+        this.reaped = Counter.builder("refresh_tokens.reaped")
+                .description("Expired refresh tokens deleted by the reaper")
+                .register(meterRegistry);
+        this.duration = Timer.builder("refresh_tokens.reap.duration")
+                .description("Time spent per reaper run, pauses included")
+                .register(meterRegistry);
+    }
+    
+    @Scheduled(initialDelayString = "${jwt.refresh-token-purge.interval:3600000}",
+               fixedDelayString = "${jwt.refresh-token-purge.interval:3600000}",
+               scheduler = SchedulingConfig.REFRESH_TOKEN_REAPER_SCHEDULER)
+    public void reap() {
+        duration.record(this::reapExpired);
+    }
+    
+    /**
+     * Runs batches until one comes back short or {@code maxBatches} is reached, whichever is
+     * first; the rest is left for the next run. Expired token history is purged the same
+     * way afterwards. Returns the number of refresh tokens deleted.
+     */
+    public int reapExpired() {
+        // One cutoff per run, so rows expiring meanwhile do not keep the loop going
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now());
+        int total = deleteInBatches(DELETE_EXPIRED_BATCH, cutoff, true);
+        if (total > 0) {
+            log.info("Purged {} expired refresh tokens", total);
+        }
+        deleteInBatches(DELETE_EXPIRED_HISTORY_BATCH, cutoff, false);
+        return total;
+    }
+    
+    private int deleteInBatches(String statement, Timestamp cutoff, boolean countReaped) {
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int deleted = jdbcTemplate.update(statement, cutoff, batchSize);
+                total += deleted;
+                if (countReaped) {
+                    reaped.increment(deleted);
+                }
+                if (deleted < batchSize || !pause()) {
+                    break;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Refresh token purge stopped after {} rows: {}", total, e.getMessage());
+        }
+        return total;
+    }
+    
+    private boolean pause() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,54 +1,142 @@
 package com.github.yohannesTz.jobhub.service;
 
 import com.github.yohannesTz.jobhub.entity.RefreshToken;
+import com.github.yohannesTz.jobhub.entity.RetiredRefreshToken;
 import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.exception.ConflictException;
 import com.github.yohannesTz.jobhub.exception.UnauthorizedException;
 import com.github.yohannesTz.jobhub.repository.RefreshTokenRepository;
-import com.github.yohannesTz.jobhub.security.JwtUtil;
+import com.github.yohannesTz.jobhub.repository.RetiredRefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
 
+/**
+ * Opaque refresh tokens, one per signed-in device. Login inserts a row; refresh rotates
+ * that row's token hash in place and records the old hash against the row, its token
+ * family. Presenting a token that has already been rotated away is treated as theft and
+ * revokes the family, except for the token rotated within the last {@code gracePeriod},
+ * which is a client racing itself and gets a conflict instead. Expired rows are removed by
+ * {@link RefreshTokenReaper}.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class RefreshTokenService {
     
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
     private final RefreshTokenRepository refreshTokenRepository;
-    private final JwtUtil jwtUtil;
+    private final RetiredRefreshTokenRepository retiredRefreshTokenRepository;
     
     @Value("${jwt.refresh-token-expiration}")
     private Long refreshTokenExpiration;
     
+    @Value("${jwt.refresh-token-grace-period:5s}")
+    private Duration gracePeriod;
+    
     @Transactional
     public RefreshToken createRefreshToken(User user) {
-        // Delete old refresh tokens for this user
-        refreshTokenRepository.deleteByUser(user);
-        
-        String token = jwtUtil.generateRefreshToken(user.getEmail());
+        String token = generateToken();
+        LocalDateTime now = LocalDateTime.now();
         
         RefreshToken refreshToken = RefreshToken.builder()
-                .token(token)
+                .tokenHash(hash(token))
                 .user(user)
-                .expiryDate(LocalDateTime.now().plusSeconds(refreshTokenExpiration / 1000))
-                .createdAt(LocalDateTime.now())
+                .expiryDate(now.plusSeconds(refreshTokenExpiration / 1000))
+                .createdAt(now)
                 .build();
         
-        return refreshTokenRepository.save(refreshToken);
+        refreshToken = refreshTokenRepository.save(refreshToken);
+        refreshToken.setToken(token);
+        return refreshToken;
     }
     
-    public RefreshToken verifyRefreshToken(String token) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(token)
-                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+    /**
+     * Exchanges a refresh token for a new one on the same device. The returned token carries
+     * the new raw value and its user.
+     */
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public RefreshToken rotateRefreshToken(String token) {
+        String oldHash = hash(token);
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(oldHash).orElse(null);
+        
+        if (refreshToken == null) {
+            RetiredRefreshToken retired = retiredRefreshTokenRepository.findById(oldHash).orElse(null);
+            if (retired == null) {
+                throw new UnauthorizedException("Invalid refresh token");
+            }
+            RefreshToken family = refreshTokenRepository.findById(retired.getFamilyId()).orElse(null);
+            if (family != null && oldHash.equals(family.getPreviousTokenHash())
+                    && retired.getRotatedAt().isAfter(LocalDateTime.now().minus(gracePeriod))) {
+                throw new ConflictException("Refresh token was just rotated by another request, retry with the new token");
+            }
+            revokeFamily(retired.getFamilyId());
+            log.warn("Refresh token reuse detected; session {} revoked", retired.getFamilyId());
+            throw new UnauthorizedException("Refresh token has already been used, please log in again");
+        }
         
         if (refreshToken.isExpired()) {
-            refreshTokenRepository.delete(refreshToken);
+            revokeFamily(refreshToken.getId());
             throw new UnauthorizedException("Refresh token expired");
         }
         
+        String newToken = generateToken();
+        String newHash = hash(newToken);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiryDate = now.plusSeconds(refreshTokenExpiration / 1000);
+        if (refreshTokenRepository.rotate(oldHash, newHash, expiryDate, now) == 0) {
+            // A concurrent refresh with the same token won the race; its session stays valid
+            throw new ConflictException("Refresh token was just rotated by another request, retry with the new token");
+        }
+        retiredRefreshTokenRepository.insert(oldHash, refreshToken.getId(), now, expiryDate);
+        
+        // Mirror the bulk update on the managed row, so flushing it cannot write the old hash back
+        refreshToken.setTokenHash(newHash);
+        refreshToken.setPreviousTokenHash(oldHash);
+        refreshToken.setRotatedAt(now);
+        refreshToken.setExpiryDate(expiryDate);
+        refreshToken.setToken(newToken);
         return refreshToken;
     }
+    
+    @Transactional
+    public void revokeAll(User user) {
+        retiredRefreshTokenRepository.deleteAllByUser(user);
+        int revoked = refreshTokenRepository.deleteAllByUser(user);
+        log.info("Revoked {} refresh tokens for user: {}", revoked, user.getEmail());
+    }
+    
+    private void revokeFamily(UUID familyId) {
+        refreshTokenRepository.deleteFamily(familyId);
+        retiredRefreshTokenRepository.deleteByFamilyId(familyId);
+    }
+    
+    private static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+    
+    // The token is 256 random bits, so a fast unsalted hash is enough to make a leaked table useless
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
-
@@ -1,19 +1,35 @@
 package com.github.yohannesTz.jobhub.service;
 
 import com.github.yohannesTz.jobhub.dto.request.UpdateUserRequest;
+import com.github.yohannesTz.jobhub.dto.request.UserSearchFilter;
 import com.github.yohannesTz.jobhub.dto.response.PresignedUrlResponse;
 import com.github.yohannesTz.jobhub.dto.response.UserResponse;
 import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
 import com.github.yohannesTz.jobhub.exception.BadRequestException;
 import com.github.yohannesTz.jobhub.exception.ResourceNotFoundException;
 import com.github.yohannesTz.jobhub.repository.UserRepository;
+import com.github.yohannesTz.jobhub.security.PrincipalCache;
+import com.github.yohannesTz.jobhub.security.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,10 +38,29 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final ObjectProvider<TokenRevocationRegistry> revocationRegistry;
     
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    private static final String EXPORT_HEADER =
+            "id,name,email,role,profile_picture_url,resume_url,created_at,updated_at\n";
+    
+    /**
+     * Returns a detached snapshot of the authenticated user, served from the principal cache.
+     * Use it for identity and ownership checks; modify users through {@link #loadCurrentUser()}.
+     */
     public User getCurrentUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByEmail(email)
+        return principalCache.findByEmail(getCurrentUserEmail())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+    
+    public String getCurrentUserEmail() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+    
+    private User loadCurrentUser() {
+        return userRepository.findByEmail(getCurrentUserEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
     
@@ -36,7 +71,8 @@ public class UserService {
     
     @Transactional
     public UserResponse updateCurrentUser(UpdateUserRequest request) {
-        User user = getCurrentUser();
+        User user = loadCurrentUser();
+        principalCache.evict(user.getEmail());
         
         if (request.getName() != null && !request.getName().isBlank()) {
             user.setName(request.getName());
@@ -47,10 +83,15 @@ public class UserService {
                 userRepository.existsByEmail(request.getEmail())) {
                 throw new BadRequestException("Email already exists");
             }
+            if (!request.getEmail().equals(user.getEmail())) {
+                // Access tokens carry the email as their subject
+                revokeAccessTokens(user);
+            }
             user.setEmail(request.getEmail());
         }
         
         user = userRepository.save(user);
+        principalCache.evict(user.getEmail());
         log.info("User profile updated: {}", user.getEmail());
         
         return mapToUserResponse(user);
@@ -62,9 +103,10 @@ public class UserService {
     
     @Transactional
     public UserResponse updateProfilePicture(String fileUrl) {
-        User user = getCurrentUser();
+        User user = loadCurrentUser();
         user.setProfilePictureUrl(fileUrl);
         user = userRepository.save(user);
+        principalCache.evict(user.getEmail());
         
         log.info("Profile picture updated for user: {}", user.getEmail());
         
@@ -77,9 +119,10 @@ public class UserService {
     
     @Transactional
     public UserResponse updateResume(String fileUrl) {
-        User user = getCurrentUser();
+        User user = loadCurrentUser();
         user.setResumeUrl(fileUrl);
         user = userRepository.save(user);
+        principalCache.evict(user.getEmail());
         
         log.info("Resume updated for user: {}", user.getEmail());
         
@@ -91,13 +134,98 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
     }
     
+    public Page<UserResponse> searchUsers(UserSearchFilter filter, Pageable pageable) {
+        return userRepository.searchUsers(filter, pageable);
+    }
+    
+    /**
+     * Writes every user as CSV, streaming rows from a cursor instead of loading the table.
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(EXPORT_HEADER);
+        int written = 0;
+        try (Stream<UserResponse> rows = userRepository.streamAllForExport()) {
+            Iterator<UserResponse> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writeCsvRow(writer, iterator.next());
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        log.info("Exported {} users", written);
+    }
+    
+    @Transactional
+    public UserResponse updateUserRole(UUID userId, UserRole role) {
+        User user = getUserById(userId);
+        user.setRole(role);
+        revokeAccessTokens(user);
+        user = userRepository.save(user);
+        principalCache.evict(user.getEmail());
+        
+        log.info("Role of user {} changed to {}", user.getEmail(), role);
+        
+        return mapToUserResponse(user);
+    }
+    
     @Transactional
     public void deleteUser(UUID userId) {
         User user = getUserById(userId);
+        TokenRevocationRegistry registry = revocationRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.revokeDeleted(user.getId());
+        }
+        refreshTokenService.revokeAll(user);
         userRepository.delete(user);
+        principalCache.evict(user.getEmail());
         log.info("User deleted: {}", user.getEmail());
     }
     
+    private void revokeAccessTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        TokenRevocationRegistry registry = revocationRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.revoke(user.getId(), user.getTokenVersion());
+        }
+    }
+    
+    private static void writeCsvRow(Writer writer, UserResponse user) throws IOException {
+        writer.write(String.join(",",
+                user.getId().toString(),
+                csvField(user.getName()),
+                csvField(user.getEmail()),
+                user.getRole().name(),
+                csvField(user.getProfilePictureUrl()),
+                csvField(user.getResumeUrl()),
+                csvField(user.getCreatedAt()),
+                csvField(user.getUpdatedAt())));
+        writer.write('\n');
+    }
+    
+    private static String csvField(LocalDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+    
+    // Package-private for UserCsvExportTests
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        // Keep spreadsheets from evaluating user-supplied text as a formula; a leading tab or
+        // carriage return is skipped by some importers, exposing the character after it
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+    
     private UserResponse mapToUserResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
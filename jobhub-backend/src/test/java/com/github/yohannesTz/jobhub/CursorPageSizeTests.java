@@ -0,0 +1,92 @@
+package com.github.yohannesTz.jobhub;
+
+import com.github.yohannesTz.jobhub.controller.JobController;
+import com.github.yohannesTz.jobhub.dto.response.CursorPage;
+import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import com.github.yohannesTz.jobhub.entity.Company;
+import com.github.yohannesTz.jobhub.entity.Job;
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.repository.CompanyRepository;
+import com.github.yohannesTz.jobhub.repository.JobRepository;
+import com.github.yohannesTz.jobhub.repository.UserRepository;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The cursor endpoints reject page sizes outside 1..{@link CursorPage#MAX_SIZE} before any
+ * query runs, and the smallest allowed page still links to the next one.
+ */
+@SpringBootTest
+class CursorPageSizeTests {
+    
+    @Autowired
+    private JobController jobController;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private JobRepository jobRepository;
+    
+    private final List<Job> jobs = new ArrayList<>();
+    
+    private User owner;
+    private Company company;
+    
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("Cursor Size")
+                .email("cursor-size-" + UUID.randomUUID() + "@jobhub.test")
+                .password("not-a-real-hash")
+                .role(UserRole.COMPANY)
+                .build());
+        company = companyRepository.save(Company.builder().name("Cursor Size").owner(owner).build());
+        for (int i = 0; i < 2; i++) {
+            jobs.add(jobRepository.save(Job.builder()
+                    .title("Cursor Size Engineer " + i)
+                    .description("Page size fixture")
+                    .location("Remote")
+                    .company(company)
+                    .build()));
+        }
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAll(jobs);
+        companyRepository.delete(company);
+        userRepository.delete(owner);
+    }
+    
+    @Test
+    void latestJobsRejectSizeOutsideBounds() {
+        assertThatThrownBy(() -> jobController.getLatestJobs("", 0)).isInstanceOf(ConstraintViolationException.class);
+        assertThatThrownBy(() -> jobController.getLatestJobs("", -1)).isInstanceOf(ConstraintViolationException.class);
+        assertThatThrownBy(() -> jobController.getLatestJobs("", CursorPage.MAX_SIZE + 1))
+                .isInstanceOf(ConstraintViolationException.class);
+    }
+    
+    @Test
+    void latestJobsWithSizeOneLinkToNextPage() {
+        CursorPage<JobResponse> page = jobController.getLatestJobs("", 1).getBody().getData();
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+}
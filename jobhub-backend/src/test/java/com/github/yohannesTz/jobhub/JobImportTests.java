@@ -0,0 +1,161 @@
+package com.github.yohannesTz.jobhub;
+
+import com.github.yohannesTz.jobhub.dto.response.BulkJobImportResponse;
+import com.github.yohannesTz.jobhub.dto.response.BulkRowError;
+import com.github.yohannesTz.jobhub.entity.Company;
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.exception.BadRequestException;
+import com.github.yohannesTz.jobhub.exception.UnauthorizedException;
+import com.github.yohannesTz.jobhub.repository.CompanyRepository;
+import com.github.yohannesTz.jobhub.repository.JobRepository;
+import com.github.yohannesTz.jobhub.repository.UserRepository;
+import com.github.yohannesTz.jobhub.service.JobImportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bulk job import: invalid rows are reported by position while valid ones are created,
+ * JSON arrays and NDJSON streams are read alike, oversized imports are rejected as a whole,
+ * and the company is authorized once before any row is read.
+ */
+@SpringBootTest(properties = "jobs.bulk.max-rows=5")
+class JobImportTests {
+    
+    @Autowired
+    private JobImportService jobImportService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private JobRepository jobRepository;
+    
+    private final List<User> users = new ArrayList<>();
+    
+    private User owner;
+    private User otherCompanyUser;
+    private Company company;
+    
+    @BeforeEach
+    void setUp() {
+        owner = saveUser("import-owner-" + UUID.randomUUID() + "@jobhub.test");
+        otherCompanyUser = saveUser("import-other-" + UUID.randomUUID() + "@jobhub.test");
+        company = companyRepository.save(Company.builder().name("Import Co").owner(owner).build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        jobRepository.deleteAll(jobRepository.findByCompany(company));
+        companyRepository.delete(company);
+        userRepository.deleteAll(users);
+    }
+    
+    @Test
+    void invalidRowsAreReportedAndValidRowsCreated() {
+        authenticate(owner);
+        String body = "[" + String.join(",",
+                job("Backend Engineer"),
+                "{\"description\": \"No title\", \"location\": \"Remote\"}",
+                "{\"title\": \"Bad Salary\", \"description\": \"d\", \"location\": \"Remote\", \"salary\": \"plenty\"}",
+                "{\"title\": \"Elsewhere\", \"description\": \"d\", \"location\": \"Remote\", \"companyId\": \"" + UUID.randomUUID() + "\"}",
+                job("Frontend Engineer")) + "]";
+        
+        BulkJobImportResponse response = jobImportService.importJobs(company.getId(), stream(body));
+        
+        assertThat(response.getReceived()).isEqualTo(5);
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getErrors()).extracting(BulkRowError::getRow).containsExactly(1, 2, 3);
+        assertThat(response.getErrors().get(0).getValidationErrors()).containsKey("title");
+        assertThat(response.getErrors().get(1).getMessage()).isNotBlank();
+        assertThat(response.getErrors().get(2).getValidationErrors()).containsKey("companyId");
+        assertThat(jobRepository.findByCompany(company)).extracting("title")
+                .containsExactlyInAnyOrder("Backend Engineer", "Frontend Engineer");
+    }
+    
+    @Test
+    void ndjsonAndJsonArrayBodiesImportTheSameRows() {
+        authenticate(owner);
+        String array = "[" + job("Array One") + "," + job("Array Two") + "]";
+        String ndjson = job("Line One") + "\n" + job("Line Two") + "\n";
+        
+        assertThat(jobImportService.importJobs(company.getId(), stream(array)).getCreated()).isEqualTo(2);
+        assertThat(jobImportService.importJobs(company.getId(), stream(ndjson)).getCreated()).isEqualTo(2);
+        assertThat(jobRepository.findByCompany(company)).extracting("title")
+                .containsExactlyInAnyOrder("Array One", "Array Two", "Line One", "Line Two");
+    }
+    
+    @Test
+    void importOverRowLimitIsRejectedWithoutCreatingJobs() {
+        authenticate(owner);
+        String body = IntStream.range(0, 6)
+                .mapToObj(i -> job("Capped " + i))
+                .collect(Collectors.joining("\n"));
+        
+        assertThatThrownBy(() -> jobImportService.importJobs(company.getId(), stream(body)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("at most 5");
+        assertThat(jobRepository.findByCompany(company)).isEmpty();
+    }
+    
+    @Test
+    void importForAnotherUsersCompanyIsRejectedBeforeReadingRows() {
+        authenticate(otherCompanyUser);
+        InputStream unread = new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("Rows were read before the company was authorized");
+            }
+        };
+        
+        assertThatThrownBy(() -> jobImportService.importJobs(company.getId(), unread))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(jobRepository.findByCompany(company)).isEmpty();
+    }
+    
+    private static String job(String title) {
+        return "{\"title\": \"" + title + "\", \"description\": \"Imported\", \"location\": \"Remote\"}";
+    }
+    
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private void authenticate(User user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))));
+    }
+    
+    private User saveUser(String email) {
+        User saved = userRepository.save(User.builder()
+                .name("Bulk Import")
+                .email(email)
+                .password("not-a-real-hash")
+                .role(UserRole.COMPANY)
+                .build());
+        users.add(saved);
+        return saved;
+    }
+}
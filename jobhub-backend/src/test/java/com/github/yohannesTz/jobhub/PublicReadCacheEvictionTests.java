@@ -0,0 +1,67 @@
+package com.github.yohannesTz.jobhub;
+
+import com.github.yohannesTz.jobhub.config.CacheConfig;
+import com.github.yohannesTz.jobhub.dto.response.JobResponse;
+import com.github.yohannesTz.jobhub.event.JobChangedEvent;
+import com.github.yohannesTz.jobhub.service.JobService;
+import com.github.yohannesTz.jobhub.service.PublicReadCacheEvictor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A listing or job load that was already running when a job changed finishes after the
+ * eviction; whatever it stores must not be served to later reads.
+ */
+@SpringBootTest
+class PublicReadCacheEvictionTests {
+    
+    @Autowired
+    private JobService jobService;
+    
+    @Autowired
+    private PublicReadCacheEvictor evictor;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+    
+    @Test
+    void pageLoadedBeforeAChangeIsNotServedAfterIt() {
+        Pageable firstPage = PageRequest.of(0, 20);
+        String inFlightKey = evictor.getJobPagesGeneration() + ":0:20";
+        
+        evictor.onJobChanged(JobChangedEvent.deleted(UUID.randomUUID()));
+        Page<JobResponse> stale = new PageImpl<>(List.of(JobResponse.builder().id(UUID.randomUUID()).build()));
+        cacheManager.getCache(CacheConfig.JOB_PAGES).put(inFlightKey, stale);
+        
+        assertThat(jobService.searchJobs(null, firstPage)).isNotSameAs(stale);
+    }
+    
+    @Test
+    void jobLoadedBeforeAChangeIsNotServedAfterIt() {
+        UUID jobId = UUID.randomUUID();
+        String inFlightKey = evictor.jobKey(jobId);
+        
+        evictor.onJobChanged(JobChangedEvent.deleted(jobId));
+        cacheManager.getCache(CacheConfig.JOBS).put(inFlightKey, JobResponse.builder().id(jobId).build());
+        
+        assertThat(evictor.jobKey(jobId)).isNotEqualTo(inFlightKey);
+        assertThat(cacheManager.getCache(CacheConfig.JOBS).get(evictor.jobKey(jobId))).isNull();
+    }
+}
@@ -0,0 +1,219 @@
+package com.github.yohannesTz.jobhub;
+
+import com.github.yohannesTz.jobhub.controller.CompanyController;
+import com.github.yohannesTz.jobhub.controller.JobApplicationController;
+import com.github.yohannesTz.jobhub.controller.JobController;
+import com.github.yohannesTz.jobhub.entity.Company;
+import com.github.yohannesTz.jobhub.entity.Job;
+import com.github.yohannesTz.jobhub.entity.JobApplication;
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.repository.CompanyRepository;
+import com.github.yohannesTz.jobhub.repository.JobApplicationRepository;
+import com.github.yohannesTz.jobhub.repository.JobRepository;
+import com.github.yohannesTz.jobhub.repository.UserRepository;
+import com.github.yohannesTz.jobhub.service.CompanyService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the read paths against N+1 lazy loading: the number of JDBC statements per
+ * endpoint must stay constant no matter how many rows are returned. Caches, including the
+ * second-level cache, are cleared first, so the counts are for a miss. A revalidated job
+ * detail costs one version lookup and no load.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class QueryCountTests {
+    
+    private static final int JOB_COUNT = 6;
+    
+    @Autowired
+    private JobController jobController;
+    
+    @Autowired
+    private JobApplicationController applicationController;
+    
+    @Autowired
+    private CompanyController companyController;
+    
+    @Autowired
+    private CompanyService companyService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private JobRepository jobRepository;
+    
+    @Autowired
+    private JobApplicationRepository applicationRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    private final List<User> users = new ArrayList<>();
+    private final List<Company> companies = new ArrayList<>();
+    private final List<Job> jobs = new ArrayList<>();
+    private final List<JobApplication> applications = new ArrayList<>();
+    
+    private User owner;
+    private User applicant;
+    
+    @BeforeEach
+    void setUp() {
+        // Fixtures bypass the services, so start every test from the database
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.getCache().evictAll();
+        String suffix = UUID.randomUUID().toString();
+        owner = saveUser(user("owner-" + suffix + "@jobhub.test", UserRole.COMPANY));
+        User otherOwner = saveUser(user("other-owner-" + suffix + "@jobhub.test", UserRole.COMPANY));
+        applicant = saveUser(user("applicant-" + suffix + "@jobhub.test", UserRole.USER));
+        User otherApplicant = saveUser(user("other-applicant-" + suffix + "@jobhub.test", UserRole.USER));
+        
+        Company first = companyRepository.save(Company.builder().name("Query Count One").owner(owner).build());
+        Company second = companyRepository.save(Company.builder().name("Query Count Two").owner(otherOwner).build());
+        companies.addAll(List.of(first, second));
+        
+        for (int i = 0; i < JOB_COUNT; i++) {
+            Job job = jobRepository.save(Job.builder()
+                    .title("Querycount Engineer " + i)
+                    .description("Statement counting fixture")
+                    .location("Remote")
+                    .salary(new BigDecimal("100000"))
+                    .company(i % 2 == 0 ? first : second)
+                    .build());
+            jobs.add(job);
+            applications.add(applicationRepository.save(JobApplication.builder()
+                    .job(job).user(applicant).resumeUrl("https://example.com/cv.pdf").build()));
+        }
+        applications.add(applicationRepository.save(JobApplication.builder()
+                .job(jobs.get(0)).user(otherApplicant).resumeUrl("https://example.com/cv.pdf").build()));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        applicationRepository.deleteAll(applications);
+        jobRepository.deleteAll(jobs);
+        companyRepository.deleteAll(companies);
+        userRepository.deleteAll(users);
+    }
+    
+    @Test
+    void jobListingUsesConstantStatements() {
+        assertThat(countStatements(() -> jobController.searchJobs(null, false, 0, 20))).isLessThanOrEqualTo(2);
+    }
+    
+    @Test
+    void keywordSearchUsesConstantStatements() {
+        assertThat(countStatements(() -> jobController.searchJobs("querycount", false, 0, 20))).isLessThanOrEqualTo(3);
+    }
+    
+    @Test
+    void jobDetailUsesSingleStatement() {
+        assertThat(countStatements(() -> jobController.getJobById(jobs.get(0).getId(), webRequest(null)))).isEqualTo(1);
+    }
+    
+    @Test
+    void jobRevalidationReadsOnlyTheVersion() {
+        UUID jobId = jobs.get(0).getId();
+        String etag = jobController.getJobById(jobId, webRequest(null)).getHeaders().getETag();
+        
+        ServletWebRequest revalidation = webRequest(etag);
+        assertThat(countStatements(() -> assertThat(jobController.getJobById(jobId, revalidation)).isNull())).isEqualTo(1);
+        assertThat(revalidation.getResponse().getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+    
+    @Test
+    void companyListingUsesSingleStatement() {
+        assertThat(countStatements(() -> companyController.getAllCompanies())).isEqualTo(1);
+    }
+    
+    @Test
+    void companyOwnershipLookupIsServedFromSecondLevelCache() {
+        UUID companyId = companies.get(0).getId();
+        countStatements(() -> companyService.findOwnership(companyId).getOwnerId());
+        assertThat(countStatements(() -> companyService.findOwnership(companyId).getOwnerId())).isZero();
+    }
+    
+    @Test
+    void applicationsForJobUseConstantStatements() {
+        authenticate(owner);
+        assertThat(countStatements(() -> applicationController.getApplicationsForJob(jobs.get(0).getId())))
+                .isLessThanOrEqualTo(3);
+    }
+    
+    @Test
+    void myApplicationsUseConstantStatements() {
+        authenticate(applicant);
+        assertThat(countStatements(() -> applicationController.getMyApplications())).isLessThanOrEqualTo(2);
+    }
+    
+    // Runs the call inside one session, as open-in-view does for a web request
+    private long countStatements(Runnable call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> call.run());
+        return statistics.getPrepareStatementCount();
+    }
+    
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/jobs");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+    
+    private void authenticate(User user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))));
+    }
+    
+    private User saveUser(User user) {
+        User saved = userRepository.save(user);
+        users.add(saved);
+        return saved;
+    }
+    
+    private static User user(String email, UserRole role) {
+        return User.builder()
+                .name("Query Count")
+                .email(email)
+                .password("not-a-real-hash")
+                .role(role)
+                .build();
+    }
+}
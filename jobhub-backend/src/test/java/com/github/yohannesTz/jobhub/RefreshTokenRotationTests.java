@@ -0,0 +1,106 @@
+package com.github.yohannesTz.jobhub;
+
+import com.github.yohannesTz.jobhub.entity.RefreshToken;
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.exception.ConflictException;
+import com.github.yohannesTz.jobhub.exception.UnauthorizedException;
+import com.github.yohannesTz.jobhub.repository.UserRepository;
+import com.github.yohannesTz.jobhub.service.RefreshTokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Refresh token rotation: a client racing itself with the token it just exchanged gets a
+ * conflict and keeps its session, while replaying any older token revokes the session.
+ */
+@SpringBootTest(properties = "jwt.refresh-token-grace-period=30s")
+class RefreshTokenRotationTests {
+    
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Rotation User")
+                .email("rotation-" + UUID.randomUUID() + "@jobhub.test")
+                .password("not-a-real-hash")
+                .role(UserRole.USER)
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        refreshTokenService.revokeAll(user);
+        userRepository.delete(user);
+    }
+    
+    @Test
+    void justRotatedTokenConflictsWithoutRevokingTheSession() {
+        String first = refreshTokenService.createRefreshToken(user).getToken();
+        String second = refreshTokenService.rotateRefreshToken(first).getToken();
+        
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(first))
+                .isInstanceOf(ConflictException.class);
+        
+        RefreshToken third = refreshTokenService.rotateRefreshToken(second);
+        assertThat(third.getToken()).isNotEqualTo(second);
+    }
+    
+    @Test
+    void previousTokenAfterGracePeriodRevokesTheSession() {
+        String first = refreshTokenService.createRefreshToken(user).getToken();
+        String second = refreshTokenService.rotateRefreshToken(first).getToken();
+        jdbcTemplate.update("UPDATE refresh_token_history SET rotated_at = rotated_at - interval '1 minute' " +
+                "WHERE family_id IN (SELECT id FROM refresh_tokens WHERE user_id = ?)", user.getId());
+        
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(first))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessageContaining("already been used");
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(second))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+    
+    @Test
+    void olderTokenOfTheFamilyRevokesTheSession() {
+        String first = refreshTokenService.createRefreshToken(user).getToken();
+        String second = refreshTokenService.rotateRefreshToken(first).getToken();
+        String third = refreshTokenService.rotateRefreshToken(second).getToken();
+        
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(first))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessageContaining("already been used");
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(third))
+                .isInstanceOf(UnauthorizedException.class);
+    }
+    
+    @Test
+    void otherDevicesKeepTheirSessionWhenOneIsRevoked() {
+        String stolen = refreshTokenService.createRefreshToken(user).getToken();
+        String otherDevice = refreshTokenService.createRefreshToken(user).getToken();
+        String current = refreshTokenService.rotateRefreshToken(stolen).getToken();
+        refreshTokenService.rotateRefreshToken(current);
+        
+        assertThatThrownBy(() -> refreshTokenService.rotateRefreshToken(stolen))
+                .isInstanceOf(UnauthorizedException.class);
+        assertThat(refreshTokenService.rotateRefreshToken(otherDevice).getToken()).isNotNull();
+    }
+}
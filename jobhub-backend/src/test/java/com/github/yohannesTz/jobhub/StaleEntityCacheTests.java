@@ -0,0 +1,101 @@
+package com.github.yohannesTz.jobhub;
+
+import com.github.yohannesTz.jobhub.dto.request.UpdateCompanyRequest;
+import com.github.yohannesTz.jobhub.dto.response.CompanyResponse;
+import com.github.yohannesTz.jobhub.entity.Company;
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.repository.CompanyRepository;
+import com.github.yohannesTz.jobhub.repository.UserRepository;
+import com.github.yohannesTz.jobhub.service.CompanyService;
+import com.github.yohannesTz.jobhub.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Updates after another instance changed the same row. Writes made elsewhere reach this
+ * instance only through the database, which the JDBC updates here stand in for; an update
+ * must start from that state rather than from anything this instance read earlier.
+ */
+@SpringBootTest
+class StaleEntityCacheTests {
+    
+    @Autowired
+    private CompanyService companyService;
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private CompanyRepository companyRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private User owner;
+    private Company company;
+    
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .name("Stale Owner")
+                .email("stale-" + UUID.randomUUID() + "@jobhub.test")
+                .password("not-a-real-hash")
+                .role(UserRole.COMPANY)
+                .build());
+        company = companyRepository.save(Company.builder().name("Stale Company").owner(owner).build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        companyRepository.deleteById(company.getId());
+        userRepository.deleteById(owner.getId());
+    }
+    
+    @Test
+    void companyUpdateAfterChangeElsewhereKeepsItAndSucceeds() {
+        companyService.findCompanyById(company.getId());
+        jdbcTemplate.update("UPDATE companies SET name = ?, version = version + 1 WHERE id = ?",
+                "Renamed Elsewhere", company.getId());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                owner.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_COMPANY"))));
+        
+        CompanyResponse updated = companyService.updateCompany(company.getId(),
+                UpdateCompanyRequest.builder().description("Updated here").build());
+        
+        assertThat(updated.getName()).isEqualTo("Renamed Elsewhere");
+        assertThat(updated.getDescription()).isEqualTo("Updated here");
+    }
+    
+    @Test
+    void roleChangeAfterChangeElsewhereKeepsIt() {
+        userService.getUserById(owner.getId());
+        jdbcTemplate.update("UPDATE users SET name = ?, password = ? WHERE id = ?",
+                "Renamed Elsewhere", "changed-hash", owner.getId());
+        
+        userService.updateUserRole(owner.getId(), UserRole.ADMIN);
+        
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM users WHERE id = ?", String.class, owner.getId()))
+                .isEqualTo("Renamed Elsewhere");
+        assertThat(jdbcTemplate.queryForObject("SELECT password FROM users WHERE id = ?", String.class, owner.getId()))
+                .isEqualTo("changed-hash");
+        assertThat(jdbcTemplate.queryForObject("SELECT role FROM users WHERE id = ?", String.class, owner.getId()))
+                .isEqualTo("ADMIN");
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.yohannesTz.jobhub;
+
+import com.github.yohannesTz.jobhub.entity.User;
+import com.github.yohannesTz.jobhub.entity.UserRole;
+import com.github.yohannesTz.jobhub.repository.UserRepository;
+import com.github.yohannesTz.jobhub.security.TokenRevocationRegistry;
+import com.github.yohannesTz.jobhub.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A user deleted on one instance must be revoked on the others, which only see the change
+ * through the database on their next refresh.
+ */
+@SpringBootTest(properties = "jwt.stateless=true")
+class TokenRevocationTests {
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Value("${jwt.access-token-expiration}")
+    private long accessTokenExpiration;
+    
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .name("Revoked User")
+                .email("revoked-" + UUID.randomUUID() + "@jobhub.test")
+                .password("not-a-real-hash")
+                .role(UserRole.USER)
+                .build());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM deleted_users WHERE user_id = ?", user.getId());
+        userRepository.findById(user.getId()).ifPresent(userRepository::delete);
+    }
+    
+    @Test
+    void deletedUserIsRevokedOnOtherInstances() {
+        userService.deleteUser(user.getId());
+        
+        TokenRevocationRegistry otherInstance = new TokenRevocationRegistry(jdbcTemplate, accessTokenExpiration);
+        otherInstance.refresh();
+        
+        assertThat(otherInstance.isRevoked(user.getId(), user.getTokenVersion())).isTrue();
+        assertThat(otherInstance.isRevoked(user.getId(), user.getTokenVersion() + 1)).isTrue();
+    }
+    
+    @Test
+    void tombstonesArePurgedOnceTokensHaveExpired() {
+        userRepository.delete(user);
+        LocalDateTime expired = LocalDateTime.now().minusNanos(accessTokenExpiration * 1_000_000).minusMinutes(1);
+        jdbcTemplate.update("INSERT INTO deleted_users (user_id, deleted_at) VALUES (?, ?)",
+                user.getId(), Timestamp.valueOf(expired));
+        
+        TokenRevocationRegistry otherInstance = new TokenRevocationRegistry(jdbcTemplate, accessTokenExpiration);
+        otherInstance.refresh();
+        
+        assertThat(otherInstance.isRevoked(user.getId(), user.getTokenVersion())).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM deleted_users WHERE user_id = ?",
+                Integer.class, user.getId())).isZero();
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.yohannesTz.jobhub.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The read-your-writes pin travels with the client: a write hands out the primary's WAL
+ * position as a cookie, and any instance reading that cookie requires it from replicas.
+ */
+class ReadYourWritesTrackerTests {
+    
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+    
+    @Test
+    void lsnRoundTripsThroughItsTextForm() {
+        Long lsn = ReadYourWritesTracker.parseLsn("16/B374D848");
+        
+        assertThat(lsn).isEqualTo(0x16B374D848L);
+        assertThat(ReadYourWritesTracker.formatLsn(lsn)).isEqualTo("16/B374D848");
+        assertThat(ReadYourWritesTracker.parseLsn("garbage")).isNull();
+        assertThat(ReadYourWritesTracker.parseLsn("zz/1")).isNull();
+    }
+    
+    @Test
+    void committedWriteHandsThePrimaryPositionToTheClient() throws SQLException {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(10), primaryAt("0/3000060"));
+        MockHttpServletResponse response = bindRequest(new MockHttpServletRequest());
+        
+        tracker.afterCommit(writeTransaction(), null);
+        
+        Cookie cookie = response.getCookie(ReadYourWritesTracker.COOKIE);
+        assertThat(cookie.getValue()).isEqualTo("0/3000060");
+        assertThat(cookie.getMaxAge()).isEqualTo(10);
+        assertThat(tracker.requiredLsn()).isEqualTo(0x3000060L);
+    }
+    
+    @Test
+    void anotherInstanceRequiresThePositionFromTheCookie() throws SQLException {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(10), primaryAt("0/1"));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesTracker.COOKIE, "0/3000060"));
+        bindRequest(request);
+        
+        assertThat(tracker.requiredLsn()).isEqualTo(0x3000060L);
+        assertThat(tracker.isReadingOwnWrites()).isTrue();
+    }
+    
+    @Test
+    void requestWithoutCookieIsNotPinned() throws SQLException {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(10), primaryAt("0/1"));
+        bindRequest(new MockHttpServletRequest());
+        
+        assertThat(tracker.requiredLsn()).isNull();
+        assertThat(tracker.isReadingOwnWrites()).isFalse();
+    }
+    
+    @Test
+    void unreadablePrimaryPositionPinsToThePrimary() throws SQLException {
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenThrow(new SQLException("primary unavailable"));
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(10), primary);
+        bindRequest(new MockHttpServletRequest());
+        
+        tracker.afterCommit(writeTransaction(), null);
+        
+        assertThat(tracker.requiredLsn()).isEqualTo(Long.MAX_VALUE);
+    }
+    
+    private static MockHttpServletResponse bindRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+    
+    private static TransactionExecution writeTransaction() {
+        TransactionExecution transaction = mock(TransactionExecution.class);
+        when(transaction.isReadOnly()).thenReturn(false);
+        return transaction;
+    }
+    
+    private static DataSource primaryAt(String lsn) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(lsn);
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(connection);
+        return primary;
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.yohannesTz.jobhub.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Concurrent misses on one key share a single load, which runs on the caller's thread
+ * rather than inside the cache, and a failed load leaves nothing behind.
+ */
+class SingleFlightCaffeineCacheTests {
+    
+    private final SingleFlightCaffeineCache cache =
+            new SingleFlightCaffeineCache("test", Caffeine.newBuilder().buildAsync());
+    
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(callers);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    started.countDown();
+                    return cache.get("key", () -> {
+                        loads.incrementAndGet();
+                        release.await();
+                        return "value";
+                    });
+                }));
+            }
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            // Give every caller time to reach the cache while the first load is blocked
+            Thread.sleep(200);
+            release.countDown();
+            
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void loaderRunsOnTheCallingThread() {
+        Thread caller = Thread.currentThread();
+        
+        Thread loader = cache.get("key", Thread::currentThread);
+        
+        assertThat(loader).isSameAs(caller);
+    }
+    
+    @Test
+    void failedLoadIsNotCached() {
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            throw new IllegalStateException("down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class).hasRootCauseInstanceOf(IllegalStateException.class);
+        
+        assertThat(cache.get("key", () -> "value")).isEqualTo("value");
+    }
+}
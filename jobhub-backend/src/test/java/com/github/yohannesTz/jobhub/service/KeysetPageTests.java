@@ -0,0 +1,75 @@
+package com.github.yohannesTz.jobhub.service;
+
+import com.github.yohannesTz.jobhub.dto.response.CursorPage;
+import com.github.yohannesTz.jobhub.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The shared keyset paging used by the job and application cursor listings: one extra row
+ * decides whether there is a next page, and the cursor points at the last row returned.
+ */
+class KeysetPageTests {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+    
+    @Test
+    void limitFetchesOneRowMoreThanThePage() {
+        assertThat(KeysetPage.limit(1).max()).isEqualTo(2);
+        assertThat(KeysetPage.limit(CursorPage.MAX_SIZE).max()).isEqualTo(CursorPage.MAX_SIZE + 1);
+    }
+    
+    @Test
+    void limitRejectsEmptyAndNegativePages() {
+        assertThatThrownBy(() -> KeysetPage.limit(0)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetPage.limit(-1)).isInstanceOf(BadRequestException.class);
+    }
+    
+    @Test
+    void extraRowMeansNextPageFromLastReturnedRow() {
+        List<SeekCursor> rows = rows(3);
+        
+        CursorPage<UUID> page = KeysetPage.of(rows, 2, row -> row, SeekCursor::getId);
+        
+        assertThat(page.getContent()).containsExactly(rows.get(0).getId(), rows.get(1).getId());
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(SeekCursor.decode(page.getNextCursor())).isEqualTo(rows.get(1));
+    }
+    
+    @Test
+    void shortOrExactPageIsTheLast() {
+        CursorPage<UUID> exact = KeysetPage.of(rows(2), 2, row -> row, SeekCursor::getId);
+        CursorPage<UUID> empty = KeysetPage.of(List.<SeekCursor>of(), 2, row -> row, SeekCursor::getId);
+        
+        assertThat(exact.getContent()).hasSize(2);
+        assertThat(exact.isHasNext()).isFalse();
+        assertThat(exact.getNextCursor()).isNull();
+        assertThat(empty.getContent()).isEmpty();
+        assertThat(empty.isHasNext()).isFalse();
+        assertThat(empty.getNextCursor()).isNull();
+    }
+    
+    @Test
+    void singleRowPageStillLinksToNext() {
+        List<SeekCursor> rows = rows(2);
+        
+        CursorPage<UUID> page = KeysetPage.of(rows, 1, row -> row, SeekCursor::getId);
+        
+        assertThat(page.getContent()).containsExactly(rows.get(0).getId());
+        assertThat(SeekCursor.decode(page.getNextCursor())).isEqualTo(rows.get(0));
+    }
+    
+    private static List<SeekCursor> rows(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new SeekCursor(NOW.minusMinutes(i), UUID.randomUUID()))
+                .toList();
+    }
+}
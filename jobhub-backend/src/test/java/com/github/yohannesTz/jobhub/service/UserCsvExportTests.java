@@ -0,0 +1,47 @@
+package com.github.yohannesTz.jobhub.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Quoting and formula neutralization of user-supplied text in the user CSV export.
+ */
+class UserCsvExportTests {
+    
+    @Test
+    void plainTextIsWrittenAsIs() {
+        assertThat(UserService.csvField("Ada Lovelace")).isEqualTo("Ada Lovelace");
+        assertThat(UserService.csvField("")).isEmpty();
+        assertThat(UserService.csvField((String) null)).isEmpty();
+    }
+    
+    @Test
+    void separatorsQuotesAndLineBreaksAreQuoted() {
+        assertThat(UserService.csvField("Lovelace, Ada")).isEqualTo("\"Lovelace, Ada\"");
+        assertThat(UserService.csvField("Ada \"Countess\" Lovelace")).isEqualTo("\"Ada \"\"Countess\"\" Lovelace\"");
+        assertThat(UserService.csvField("line\nbreak")).isEqualTo("\"line\nbreak\"");
+        assertThat(UserService.csvField("line\r\nbreak")).isEqualTo("\"line\r\nbreak\"");
+    }
+    
+    @Test
+    void formulaTriggersArePrefixed() {
+        assertThat(UserService.csvField("=1+1")).isEqualTo("'=1+1");
+        assertThat(UserService.csvField("+1")).isEqualTo("'+1");
+        assertThat(UserService.csvField("-1")).isEqualTo("'-1");
+        assertThat(UserService.csvField("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(UserService.csvField("\t=1+1")).isEqualTo("'\t=1+1");
+        assertThat(UserService.csvField("\r=1+1")).isEqualTo("\"'\r=1+1\"");
+    }
+    
+    @Test
+    void prefixedFormulaIsStillQuotedWhenNeeded() {
+        assertThat(UserService.csvField("=HYPERLINK(\"x\",\"y\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\"");
+    }
+    
+    @Test
+    void triggersAfterTheFirstCharacterAreLeftAlone() {
+        assertThat(UserService.csvField("a=b")).isEqualTo("a=b");
+        assertThat(UserService.csvField("x@example.com")).isEqualTo("x@example.com");
+    }
+}
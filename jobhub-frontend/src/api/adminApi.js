@@ -1,8 +1,8 @@
 import api from './axios';
 
 export const adminApi = {
-  getAllUsers: async () => {
-    const response = await api.get('/admin/users');
+  getUsers: async (page = 0, size = 100) => {
+    const response = await api.get('/admin/users', { params: { page, size } });
     return response.data;
   },
 
@@ -11,6 +11,11 @@ export const companyApi = {
     return response.data;
   },
 
+  getMyCompanies: async () => {
+    const response = await api.get('/companies/me');
+    return response.data;
+  },
+
   getCompanyById: async (id) => {
     const response = await api.get(`/companies/${id}`);
     return response.data;
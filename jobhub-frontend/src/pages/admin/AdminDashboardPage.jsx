@@ -6,6 +6,7 @@ import { jobApi } from '../../api/jobApi';
 const AdminDashboardPage = () => {
   const [activeTab, setActiveTab] = useState('users');
   const [users, setUsers] = useState([]);
+  const [totalUsers, setTotalUsers] = useState(0);
   const [jobs, setJobs] = useState([]);
   const [loading, setLoading] = useState(true);
   const [deleteModal, setDeleteModal] = useState({ open: false, type: '', id: '', name: '' });
@@ -19,10 +20,11 @@ const AdminDashboardPage = () => {
     setLoading(true);
     try {
       const [usersRes, jobsRes] = await Promise.all([
-        adminApi.getAllUsers(),
+        adminApi.getUsers(0, 100),
         jobApi.searchJobs('', 0, 100)
       ]);
-      setUsers(usersRes.data);
+      setUsers(usersRes.data.content);
+      setTotalUsers(usersRes.data.totalElements);
       setJobs(jobsRes.data.content);
     } catch (error) {
       console.error('Error fetching data:', error);
@@ -76,7 +78,7 @@ const AdminDashboardPage = () => {
             <div className="flex items-center justify-between">
               <div>
                 <p className="text-sm text-gray-600 mb-1">Total Users</p>
-                <p className="text-3xl font-bold text-gray-900">{users.length}</p>
+                <p className="text-3xl font-bold text-gray-900">{totalUsers}</p>
               </div>
               <div className="h-12 w-12 bg-gray-200 rounded-lg flex items-center justify-center">
                 <Users className="h-6 w-6 text-gray-900" />
@@ -109,7 +111,7 @@ const AdminDashboardPage = () => {
                     : 'border-transparent text-gray-600 hover:text-gray-900'
                 }`}
               >
-                Users ({users.length})
+                Users ({totalUsers})
               </button>
               <button
                 onClick={() => setActiveTab('jobs')}
@@ -14,7 +14,7 @@ const CompanyDashboardPage = () => {
     const fetchData = async () => {
       try {
         const [companiesRes, jobsRes] = await Promise.all([
-          companyApi.getAllCompanies(),
+          companyApi.getMyCompanies(),
           jobApi.searchJobs('', 0, 100)
         ]);
         setCompanies(companiesRes.data);
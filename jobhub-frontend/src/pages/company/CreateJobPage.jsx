@@ -21,7 +21,7 @@ const CreateJobPage = () => {
   useEffect(() => {
     const fetchCompanies = async () => {
       try {
-        const response = await companyApi.getAllCompanies();
+        const response = await companyApi.getMyCompanies();
         setCompanies(response.data);
         if (response.data.length > 0) {
           setFormData(prev => ({ ...prev, companyId: response.data[0].id }));